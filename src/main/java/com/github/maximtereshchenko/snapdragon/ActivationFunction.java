@@ -5,4 +5,24 @@ interface ActivationFunction {
     Tensor apply(Tensor tensor);
 
     Tensor deltas(Tensor outputs, Tensor errorSignal);
+
+    default boolean isElementWise() {
+        return false;
+    }
+
+    default boolean fusesWithCrossEntropy() {
+        return false;
+    }
+
+    default boolean isFusable() {
+        return false;
+    }
+
+    default void applyInPlace(double[] values, int from, int to) {
+        throw new UnsupportedOperationException();
+    }
+
+    default void deltasInPlace(double[] errorSignals, double[] outputs, int from, int to) {
+        throw new UnsupportedOperationException();
+    }
 }
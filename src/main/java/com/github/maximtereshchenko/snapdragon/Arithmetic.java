@@ -0,0 +1,23 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.util.function.DoubleBinaryOperator;
+
+enum Arithmetic implements DoubleBinaryOperator {
+
+    SUM,
+    DIFFERENCE,
+    PRODUCT,
+    QUOTIENT,
+    MAXIMUM;
+
+    @Override
+    public double applyAsDouble(double first, double second) {
+        return switch (this) {
+            case SUM -> first + second;
+            case DIFFERENCE -> first - second;
+            case PRODUCT -> first * second;
+            case QUOTIENT -> first / second;
+            case MAXIMUM -> Math.max(first, second);
+        };
+    }
+}
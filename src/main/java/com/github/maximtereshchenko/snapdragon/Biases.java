@@ -2,24 +2,33 @@ package com.github.maximtereshchenko.snapdragon;
 
 record Biases(Tensor tensor) {
 
-    Biases calibrated(Deltas deltas, LearningRate learningRate) {
-        var deltasTensor = deltas.tensor();
-        var shape = deltasTensor.shape();
-        var contracted = Tensor.horizontalVector(1.0 / shape[0])
-                             .broadcasted(1, shape[0])
-                             .contracted(deltasTensor);
-        return new Biases(
-            tensor.difference(
-                contracted.product(
-                    Tensor.horizontalVector(learningRate.value())
-                        .broadcasted(contracted.shape())
-                )
-            )
-        );
+    Tensor gradient(Deltas deltas, int batchSize) {
+        return deltas.tensor().mean(0, batchSize);
+    }
+
+    Biases calibrated(Tensor gradient, LearningRate learningRate) {
+        return new Biases(tensor.lazy().difference(adjustment(gradient, learningRate)).evaluated());
+    }
+
+    void calibrate(Tensor gradient, LearningRate learningRate) {
+        tensor.assign(tensor.lazy().difference(adjustment(gradient, learningRate)));
+    }
+
+    Biases copy() {
+        return new Biases(tensor.copy());
     }
 
     int size() {
         var shape = tensor.shape();
         return shape[shape.length - 1];
     }
+
+    private Expression adjustment(Tensor gradient, LearningRate learningRate) {
+        return gradient.lazy()
+                   .product(
+                       Tensor.horizontalVector(learningRate.value())
+                           .lazy()
+                           .broadcasted(gradient.shape())
+                   );
+    }
 }
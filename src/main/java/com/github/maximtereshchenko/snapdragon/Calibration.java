@@ -0,0 +1,13 @@
+package com.github.maximtereshchenko.snapdragon;
+
+interface Calibration {
+
+    Outputs calibrate(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    );
+
+    NeuralNetwork neuralNetwork();
+}
@@ -0,0 +1,9 @@
+package com.github.maximtereshchenko.snapdragon;
+
+enum CalibrationMode {
+
+    COPYING,
+    IN_PLACE,
+    DATA_PARALLEL,
+    HOGWILD
+}
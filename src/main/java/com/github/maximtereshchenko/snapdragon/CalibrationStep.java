@@ -0,0 +1,3 @@
+package com.github.maximtereshchenko.snapdragon;
+
+record CalibrationStep(NeuralNetwork neuralNetwork, Outputs outputs) {}
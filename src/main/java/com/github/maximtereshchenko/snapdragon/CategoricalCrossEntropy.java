@@ -5,17 +5,20 @@ record CategoricalCrossEntropy() implements LossFunction {
     @Override
     public Tensor loss(Tensor outputs, Tensor labels) {
         var shape = outputs.shape();
-        return labels.product(Tensor.from(shape, index -> Math.log(outputs.value(index))))
-                   .contracted(
-                       Tensor.verticalVector(-1)
-                           .broadcasted(shape[shape.length - 1], 1)
-                   );
+        return labels.zip(outputs, (label, output) -> label * -Math.log(output))
+                   .sum(shape.length - 1);
     }
 
     @Override
     public Tensor derivative(Tensor outputs, Tensor labels) {
-        var shape = labels.shape();
-        return labels.product(Tensor.horizontalVector(-1).broadcasted(shape))
-                   .quotient(outputs);
+        return labels.zip(outputs, (label, output) -> label * -1 / output);
+    }
+
+    @Override
+    public Tensor deltas(ActivationFunction activationFunction, Tensor outputs, Tensor labels) {
+        if (activationFunction.fusesWithCrossEntropy()) {
+            return outputs.difference(labels);
+        }
+        return LossFunction.super.deltas(activationFunction, outputs, labels);
     }
 }
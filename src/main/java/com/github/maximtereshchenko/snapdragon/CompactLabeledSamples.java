@@ -0,0 +1,142 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+final class CompactLabeledSamples extends AbstractList<LabeledSample> implements RandomAccess {
+
+    private static final double MAX_UNSIGNED_BYTE = 255.0;
+
+    private final byte[] inputs;
+    private final int inputsLength;
+    private final int[] labels;
+    private final int classes;
+    private final int labelBytes;
+
+    CompactLabeledSamples(
+        byte[] inputs,
+        int inputsLength,
+        int[] labels,
+        int classes,
+        int labelBytes
+    ) {
+        if (inputsLength < 1 || inputs.length != labels.length * inputsLength) {
+            throw new IllegalArgumentException();
+        }
+        for (var label : labels) {
+            if (label < 0 || label >= classes) {
+                throw new IllegalArgumentException();
+            }
+        }
+        this.inputs = inputs;
+        this.inputsLength = inputsLength;
+        this.labels = labels;
+        this.classes = classes;
+        this.labelBytes = labelBytes;
+    }
+
+    CompactLabeledSamples(byte[] inputs, int inputsLength, int[] labels, int classes) {
+        this(inputs, inputsLength, labels, classes, 1);
+    }
+
+    @Override
+    public LabeledSample get(int index) {
+        return new CompactLabeledSample(this, index);
+    }
+
+    @Override
+    public int size() {
+        return labels.length;
+    }
+
+    private void copyInputs(int index, double[] target, int offset) {
+        var source = index * inputsLength;
+        for (var i = 0; i < inputsLength; i++) {
+            target[offset + i] = Byte.toUnsignedInt(inputs[source + i]) / MAX_UNSIGNED_BYTE;
+        }
+    }
+
+    private void copyLabels(int index, double[] target, int offset) {
+        Arrays.fill(target, offset, offset + classes, 0);
+        target[offset + labels[index]] = 1;
+    }
+
+    private static final class CompactLabeledSample implements LabeledSample {
+
+        private final CompactLabeledSamples samples;
+        private final int index;
+
+        CompactLabeledSample(CompactLabeledSamples samples, int index) {
+            if (index < 0 || index >= samples.size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            this.samples = samples;
+            this.index = index;
+        }
+
+        @Override
+        public double[] inputs() {
+            var inputs = new double[samples.inputsLength];
+            copyInputs(inputs, 0);
+            return inputs;
+        }
+
+        @Override
+        public double[] labels() {
+            var labels = new double[samples.classes];
+            copyLabels(labels, 0);
+            return labels;
+        }
+
+        @Override
+        public int inputsLength() {
+            return samples.inputsLength;
+        }
+
+        @Override
+        public int labelsLength() {
+            return samples.classes;
+        }
+
+        @Override
+        public long encodedBytes() {
+            return (long) samples.inputsLength + samples.labelBytes;
+        }
+
+        @Override
+        public void copyInputs(double[] target, int offset) {
+            samples.copyInputs(index, target, offset);
+        }
+
+        @Override
+        public void copyLabels(double[] target, int offset) {
+            samples.copyLabels(index, target, offset);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Arrays.hashCode(inputs());
+            result = 31 * result + Arrays.hashCode(labels());
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            return object instanceof CompactLabeledSample that &&
+                       Arrays.equals(inputs(), that.inputs()) &&
+                       Arrays.equals(labels(), that.labels());
+        }
+
+        @Override
+        public String toString() {
+            return "CompactLabeledSample{" +
+                       "inputs=" + Arrays.toString(inputs()) +
+                       ", labels=" + Arrays.toString(labels()) +
+                       '}';
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+final class ComputeContext implements AutoCloseable {
+
+    private static final long DEFAULT_MIN_PARALLEL_FLOPS = 1 << 15;
+    private static final ComputeContext COMMON = new ComputeContext(
+        ForkJoinPool.commonPool(),
+        DEFAULT_MIN_PARALLEL_FLOPS
+    );
+
+    private final ForkJoinPool pool;
+    private final long minParallelFlops;
+
+    private ComputeContext(ForkJoinPool pool, long minParallelFlops) {
+        this.pool = pool;
+        this.minParallelFlops = minParallelFlops;
+    }
+
+    ComputeContext(int threads, long minParallelFlops) {
+        if (threads < 1 || minParallelFlops < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.minParallelFlops = minParallelFlops;
+        this.pool = new ForkJoinPool(
+            threads,
+            forkJoinPool -> new Worker(forkJoinPool, this),
+            null,
+            false
+        );
+    }
+
+    ComputeContext(int threads) {
+        this(threads, DEFAULT_MIN_PARALLEL_FLOPS);
+    }
+
+    static ComputeContext common() {
+        return COMMON;
+    }
+
+    static ComputeContext current() {
+        if (Thread.currentThread() instanceof Worker worker) {
+            return worker.computeContext;
+        }
+        return COMMON;
+    }
+
+    @Override
+    public void close() {
+        if (this != COMMON) {
+            pool.close();
+        }
+    }
+
+    int threads() {
+        return pool.getParallelism();
+    }
+
+    <T> T invoke(Supplier<T> supplier) {
+        if (current() == this) {
+            return supplier.get();
+        }
+        return pool.invoke(ForkJoinTask.adapt(supplier::get));
+    }
+
+    void split(int length, long flops, Range range) {
+        var chunks = chunks(length, flops);
+        if (chunks < 2) {
+            range.process(0, length);
+            return;
+        }
+        var tasks = new ArrayList<ForkJoinTask<?>>();
+        for (var chunk = 0; chunk < chunks; chunk++) {
+            var from = (int) ((long) length * chunk / chunks);
+            var to = (int) ((long) length * (chunk + 1) / chunks);
+            tasks.add(ForkJoinTask.adapt(() -> range.process(from, to)));
+        }
+        if (ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+    }
+
+    <T> T reduce(
+        int length,
+        long flops,
+        RangeFunction<T> function,
+        BinaryOperator<T> operator
+    ) {
+        var chunks = chunks(length, flops);
+        if (chunks < 2) {
+            return function.apply(0, length);
+        }
+        if (ForkJoinTask.getPool() == pool) {
+            return reduced(length, chunks, 0, chunks, function, operator);
+        }
+        return pool.invoke(
+            ForkJoinTask.adapt(() -> reduced(length, chunks, 0, chunks, function, operator))
+        );
+    }
+
+    private <T> T reduced(
+        int length,
+        int chunks,
+        int fromChunk,
+        int toChunk,
+        RangeFunction<T> function,
+        BinaryOperator<T> operator
+    ) {
+        if (toChunk - fromChunk == 1) {
+            return function.apply(
+                (int) ((long) length * fromChunk / chunks),
+                (int) ((long) length * toChunk / chunks)
+            );
+        }
+        var middle = (fromChunk + toChunk) >>> 1;
+        var left = ForkJoinTask.adapt(
+                () -> reduced(length, chunks, fromChunk, middle, function, operator)
+            )
+                       .fork();
+        var right = reduced(length, chunks, middle, toChunk, function, operator);
+        return operator.apply(left.join(), right);
+    }
+
+    private int chunks(int length, long flops) {
+        return (int) Math.min(Math.min(threads(), length), flops / minParallelFlops);
+    }
+
+    @FunctionalInterface
+    interface Range {
+
+        void process(int from, int to);
+    }
+
+    @FunctionalInterface
+    interface RangeFunction<T> {
+
+        T apply(int from, int to);
+    }
+
+    private static final class Worker extends ForkJoinWorkerThread {
+
+        private final ComputeContext computeContext;
+
+        Worker(ForkJoinPool pool, ComputeContext computeContext) {
+            super(pool);
+            this.computeContext = computeContext;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.maximtereshchenko.snapdragon;
+
+final class CopyingCalibration implements Calibration {
+
+    private NeuralNetwork neuralNetwork;
+
+    CopyingCalibration(NeuralNetwork neuralNetwork) {
+        this.neuralNetwork = neuralNetwork;
+    }
+
+    @Override
+    public synchronized Outputs calibrate(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    ) {
+        var calibrationStep = neuralNetwork.calibrationStep(
+            inputs,
+            labels,
+            lossFunction,
+            learningRate
+        );
+        neuralNetwork = calibrationStep.neuralNetwork();
+        return calibrationStep.outputs();
+    }
+
+    @Override
+    public NeuralNetwork neuralNetwork() {
+        return neuralNetwork;
+    }
+}
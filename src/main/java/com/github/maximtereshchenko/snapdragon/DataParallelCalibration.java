@@ -0,0 +1,30 @@
+package com.github.maximtereshchenko.snapdragon;
+
+final class DataParallelCalibration implements Calibration {
+
+    private final MultiLayerPerceptron multiLayerPerceptron;
+
+    DataParallelCalibration(MultiLayerPerceptron multiLayerPerceptron) {
+        this.multiLayerPerceptron = multiLayerPerceptron.copy();
+    }
+
+    @Override
+    public Outputs calibrate(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    ) {
+        return multiLayerPerceptron.calibrateDataParallel(
+            inputs,
+            labels,
+            lossFunction,
+            learningRate
+        );
+    }
+
+    @Override
+    public NeuralNetwork neuralNetwork() {
+        return multiLayerPerceptron.copy();
+    }
+}
@@ -4,47 +4,115 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.function.Supplier;
 
 abstract class Dataset {
 
     private final Supplier<List<LabeledSample>> supplier;
     private final int batchSize;
+    private final int prefetchedBatches;
+    private List<LabeledSample> labeledSamples;
+    private long cachedBytes;
 
-    Dataset(Supplier<List<LabeledSample>> supplier, int batchSize) {
+    Dataset(Supplier<List<LabeledSample>> supplier, int batchSize, int prefetchedBatches) {
+        if (prefetchedBatches < 0) {
+            throw new IllegalArgumentException();
+        }
         this.supplier = supplier;
         this.batchSize = batchSize;
+        this.prefetchedBatches = prefetchedBatches;
     }
 
     final Iterator<BatchedLabeledSample> batchedLabeledSamples() {
-        return new BatchedLabeledSampleIterator(labeledSamples(supplier).iterator(), batchSize);
+        return batchedLabeledSamples(false);
+    }
+
+    final Iterator<BatchedLabeledSample> reusingBatchedLabeledSamples() {
+        return batchedLabeledSamples(true);
+    }
+
+    final Iterator<BatchedLabeledSample> reusingBatchedLabeledSamples(int fromBatch, int toBatch) {
+        var loaded = labeledSamples();
+        var from = (int) Math.min((long) fromBatch * batchSize, loaded.size());
+        var indices = new int[(int) Math.min((long) toBatch * batchSize, loaded.size()) - from];
+        for (var i = 0; i < indices.length; i++) {
+            indices[i] = from + i;
+        }
+        return new BatchedLabeledSampleIterator(loaded, indices, batchSize, true);
+    }
+
+    final int batches() {
+        return Math.ceilDiv(samples(), batchSize);
+    }
+
+    final int samples() {
+        return labeledSamples().size();
+    }
+
+    final long cachedBytes() {
+        return cachedBytes;
+    }
+
+    abstract void reorder(int[] indices);
+
+    private Iterator<BatchedLabeledSample> batchedLabeledSamples(boolean reuseBuffers) {
+        var loaded = labeledSamples();
+        var indices = new int[loaded.size()];
+        for (var i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        reorder(indices);
+        if (prefetchedBatches == 0) {
+            return new BatchedLabeledSampleIterator(loaded, indices, batchSize, reuseBuffers);
+        }
+        return new PrefetchingIterator(
+            new BatchedLabeledSampleIterator(loaded, indices, batchSize, false),
+            prefetchedBatches
+        );
     }
 
-    abstract List<LabeledSample> labeledSamples(
-        Supplier<List<LabeledSample>> supplier
-    );
+    private List<LabeledSample> labeledSamples() {
+        if (labeledSamples == null) {
+            var supplied = supplier.get();
+            if (supplied instanceof RandomAccess) {
+                labeledSamples = supplied;
+            } else {
+                labeledSamples = new ArrayList<>(supplied);
+            }
+            for (var labeledSample : labeledSamples) {
+                cachedBytes += labeledSample.encodedBytes();
+            }
+        }
+        return labeledSamples;
+    }
 
     private static final class BatchedLabeledSampleIterator
         implements Iterator<BatchedLabeledSample> {
 
-        private final Iterator<LabeledSample> labeledSamples;
+        private final List<LabeledSample> labeledSamples;
+        private final int[] indices;
         private final int batchSize;
-        private BatchedLabeledSample batchedLabeledSample;
+        private final boolean reuseBuffers;
+        private int position;
+        private double[] inputsBuffer;
+        private double[] labelsBuffer;
 
         BatchedLabeledSampleIterator(
-            Iterator<LabeledSample> labeledSamples,
-            int batchSize
+            List<LabeledSample> labeledSamples,
+            int[] indices,
+            int batchSize,
+            boolean reuseBuffers
         ) {
             this.labeledSamples = labeledSamples;
+            this.indices = indices;
             this.batchSize = batchSize;
+            this.reuseBuffers = reuseBuffers;
         }
 
         @Override
         public boolean hasNext() {
-            if (batchedLabeledSample == null) {
-                tryAdvance();
-            }
-            return batchedLabeledSample != null;
+            return position < indices.length;
         }
 
         @Override
@@ -52,37 +120,47 @@ abstract class Dataset {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            var next = batchedLabeledSample;
-            batchedLabeledSample = null;
-            return next;
+            var rows = Math.min(batchSize, indices.length - position);
+            var first = labeledSamples.get(indices[position]);
+            var inputsLength = first.inputsLength();
+            var labelsLength = first.labelsLength();
+            var inputs = inputsBuffer(rows * inputsLength);
+            var labels = labelsBuffer(rows * labelsLength);
+            for (var row = 0; row < rows; row++) {
+                var labeledSample = labeledSamples.get(indices[position + row]);
+                if (labeledSample.inputsLength() != inputsLength ||
+                        labeledSample.labelsLength() != labelsLength) {
+                    throw new IllegalStateException();
+                }
+                labeledSample.copyInputs(inputs, row * inputsLength);
+                labeledSample.copyLabels(labels, row * labelsLength);
+            }
+            position += rows;
+            return new BatchedLabeledSample(
+                new Inputs(tensor(new int[]{rows, inputsLength}, inputs)),
+                new Labels(tensor(new int[]{rows, labelsLength}, labels))
+            );
         }
 
-        private void tryAdvance() {
-            var samples = new ArrayList<LabeledSample>();
-            while (labeledSamples.hasNext() && samples.size() < batchSize) {
-                samples.add(labeledSamples.next());
-            }
-            if (samples.isEmpty()) {
-                return;
+        private Tensor tensor(int[] shape, double[] values) {
+            if (reuseBuffers) {
+                return Tensor.borrowed(shape, values);
             }
-            var inputs = new double[samples.size()][];
-            var labels = new double[samples.size()][];
-            for (var i = 0; i < samples.size(); i++) {
-                var current = samples.get(i);
-                inputs[i] = current.inputs();
-                labels[i] = current.labels();
+            return Tensor.wrapped(shape, values);
+        }
+
+        private double[] inputsBuffer(int length) {
+            if (!reuseBuffers || inputsBuffer == null || inputsBuffer.length != length) {
+                inputsBuffer = new double[length];
             }
-            batchedLabeledSample = new BatchedLabeledSample(
-                new Inputs(tensor(inputs)),
-                new Labels(tensor(labels))
-            );
+            return inputsBuffer;
         }
 
-        private Tensor tensor(double[][] array) {
-            return Tensor.from(
-                new int[]{array.length, array[0].length},
-                index -> array[index[0]][index[index.length - 1]]
-            );
+        private double[] labelsBuffer(int length) {
+            if (!reuseBuffers || labelsBuffer == null || labelsBuffer.length != length) {
+                labelsBuffer = new double[length];
+            }
+            return labelsBuffer;
         }
     }
 }
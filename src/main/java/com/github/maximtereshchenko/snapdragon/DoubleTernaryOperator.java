@@ -0,0 +1,7 @@
+package com.github.maximtereshchenko.snapdragon;
+
+@FunctionalInterface
+interface DoubleTernaryOperator {
+
+    double applyAsDouble(double first, double second, double third);
+}
@@ -1,7 +1,8 @@
 package com.github.maximtereshchenko.snapdragon;
 
-import java.util.ArrayList;
-import java.util.function.BiFunction;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Function;
 
 final class Epoch {
 
@@ -13,6 +14,8 @@ final class Epoch {
     private final NeuralNetwork neuralNetwork;
     private final LearningRate learningRate;
     private final Patience patience;
+    private final CalibrationMode calibrationMode;
+    private final ValidationEvaluator validationEvaluator;
 
     private Epoch(
         int current,
@@ -22,7 +25,8 @@ final class Epoch {
         LossFunction lossFunction,
         NeuralNetwork neuralNetwork,
         LearningRate learningRate,
-        Patience patience
+        Patience patience,
+        CalibrationMode calibrationMode
     ) {
         this.current = current;
         this.max = max;
@@ -32,6 +36,8 @@ final class Epoch {
         this.neuralNetwork = neuralNetwork;
         this.learningRate = learningRate;
         this.patience = patience;
+        this.calibrationMode = calibrationMode;
+        this.validationEvaluator = new ValidationEvaluator(lossFunction);
     }
 
     Epoch(
@@ -41,7 +47,8 @@ final class Epoch {
         LossFunction lossFunction,
         NeuralNetwork neuralNetwork,
         LearningRate learningRate,
-        Patience patience
+        Patience patience,
+        CalibrationMode calibrationMode
     ) {
         this(
             0,
@@ -51,7 +58,8 @@ final class Epoch {
             lossFunction,
             neuralNetwork,
             learningRate,
-            patience
+            patience,
+            calibrationMode
         );
     }
 
@@ -59,30 +67,34 @@ final class Epoch {
         if (current == max) {
             return new End(neuralNetwork);
         }
-        var trainingDatasetConsumingResult = datasetConsumingResult(
-            neuralNetwork,
-            trainingDataset,
-            (currentNeuralNetwork, batchedLabeledSample) -> currentNeuralNetwork.calibrated(
+        var savedBytes = trainingDataset.cachedBytes() + validationDataset.cachedBytes();
+        var calibration = neuralNetwork.calibration(calibrationMode);
+        var trainingSamples = batchedLabeledSamples(trainingDataset, calibrationWorkers());
+        var trainingStatistics = neuralNetworkStatistics(
+            trainingSamples,
+            batchedLabeledSample -> calibration.calibrate(
                 batchedLabeledSample.inputs(),
                 batchedLabeledSample.labels(),
                 lossFunction,
                 learningRate
-            )
+            ),
+            calibrationWorkers()
+        );
+        var calibrated = calibration.neuralNetwork();
+        var validationStatistics = validationEvaluator.neuralNetworkStatistics(
+            calibrated,
+            validationDataset
         );
-        var validationStatistics = datasetConsumingResult(
-            trainingDatasetConsumingResult.neuralNetwork(),
-            validationDataset,
-            (currentNeuralNetwork, batchedLabeledSample) -> currentNeuralNetwork
-        )
-                                       .neuralNetworkStatistics();
         var epochStatistics = new EpochStatistics(
-            trainingDatasetConsumingResult.neuralNetworkStatistics(),
-            validationStatistics
+            trainingStatistics,
+            validationStatistics,
+            savedBytes,
+            prefetchStatistics(trainingSamples)
         );
         return switch (patience.next(validationStatistics.averageLoss())) {
             case Improvement(var nextPatience) -> nextEpoch(
                 nextPatience,
-                trainingDatasetConsumingResult.neuralNetwork(),
+                calibrated,
                 epochStatistics
             );
             case NoImprovement(var nextPatience) -> nextEpoch(
@@ -94,33 +106,80 @@ final class Epoch {
         };
     }
 
-    private DatasetConsumingResult datasetConsumingResult(
-        NeuralNetwork initialNeuralNetwork,
-        Dataset dataset,
-        BiFunction<NeuralNetwork, BatchedLabeledSample, NeuralNetwork> nextNeuralNetworkFunction
+    private int calibrationWorkers() {
+        if (calibrationMode == CalibrationMode.HOGWILD) {
+            return ComputeContext.current().threads();
+        }
+        return 1;
+    }
+
+    private NeuralNetworkStatistics neuralNetworkStatistics(
+        Iterator<BatchedLabeledSample> samples,
+        Function<BatchedLabeledSample, Outputs> outputsFunction,
+        int workers
     ) {
-        var currentNeuralNetwork = initialNeuralNetwork;
-        var samples = dataset.batchedLabeledSamples();
-        var lossesPerBatch = new ArrayList<Double>();
-        var accuracySum = 0.0;
-        var batches = 0;
-        while (samples.hasNext()) {
-            var batch = samples.next();
-            var outputs = currentNeuralNetwork.outputs(batch.inputs());
-            lossesPerBatch.add(loss(outputs, batch.labels()));
-            accuracySum += accuracy(outputs, batch.labels());
-            currentNeuralNetwork = nextNeuralNetworkFunction.apply(currentNeuralNetwork, batch);
-            batches++;
+        BatchStatistics batchStatistics;
+        try {
+            batchStatistics = ComputeContext.current()
+                                  .reduce(
+                                      workers,
+                                      3 * neuralNetwork.flops(trainingDataset.samples()),
+                                      (from, to) -> batchStatistics(samples, outputsFunction),
+                                      BatchStatistics::combined
+                                  );
+        } finally {
+            if (samples instanceof PrefetchingIterator prefetchingIterator) {
+                prefetchingIterator.close();
+            }
         }
-        if (batches == 0) {
+        if (batchStatistics.losses().count() == 0) {
             throw new IllegalStateException();
         }
-        return new DatasetConsumingResult(
-            currentNeuralNetwork,
-            new NeuralNetworkStatistics(lossesPerBatch, accuracySum / batches)
+        return new NeuralNetworkStatistics(
+            batchStatistics.losses(),
+            (double) batchStatistics.correct() / batchStatistics.losses().count()
         );
     }
 
+    private Iterator<BatchedLabeledSample> batchedLabeledSamples(Dataset dataset, int workers) {
+        if (workers == 1) {
+            return dataset.reusingBatchedLabeledSamples();
+        }
+        return dataset.batchedLabeledSamples();
+    }
+
+    private PrefetchStatistics prefetchStatistics(Iterator<BatchedLabeledSample> samples) {
+        if (samples instanceof PrefetchingIterator prefetchingIterator) {
+            return prefetchingIterator.statistics();
+        }
+        return PrefetchStatistics.none();
+    }
+
+    private BatchStatistics batchStatistics(
+        Iterator<BatchedLabeledSample> samples,
+        Function<BatchedLabeledSample, Outputs> outputsFunction
+    ) {
+        var losses = new RunningStatistics();
+        var correct = 0;
+        for (var batch = next(samples); batch.isPresent(); batch = next(samples)) {
+            var outputs = outputsFunction.apply(batch.get());
+            losses.addAll(
+                lossFunction.sampleLosses(outputs.tensor(), batch.get().labels().tensor())
+            );
+            correct += outputs.correct(batch.get().labels());
+        }
+        return new BatchStatistics(losses, correct);
+    }
+
+    private Optional<BatchedLabeledSample> next(Iterator<BatchedLabeledSample> samples) {
+        synchronized (samples) {
+            if (samples.hasNext()) {
+                return Optional.of(samples.next());
+            }
+            return Optional.empty();
+        }
+    }
+
     private NextEpoch nextEpoch(
         Patience nextPatience,
         NeuralNetwork nextNeuralNetwork,
@@ -135,50 +194,20 @@ final class Epoch {
                 lossFunction,
                 nextNeuralNetwork,
                 learningRate,
-                nextPatience
+                nextPatience,
+                calibrationMode
             ),
             epochStatistics
         );
     }
 
-    private double accuracy(Outputs outputs, Labels labels) {
-        var correct = 0.0;
-        var outputsTensor = outputs.tensor();
-        var shape = outputsTensor.shape();
-        var labelsTensor = labels.tensor();
-        for (var row = 0; row < shape[0]; row++) {
-            if (maximumValueIndex(outputsTensor, shape, row) ==
-                    maximumValueIndex(labelsTensor, shape, row)) {
-                correct++;
-            }
-        }
-        return correct / shape[0];
-    }
+    private record BatchStatistics(RunningStatistics losses, int correct) {
 
-    private int maximumValueIndex(Tensor tensor, int[] shape, int row) {
-        var currentMax = Double.MIN_VALUE;
-        var index = -1;
-        for (var column = 0; column < shape[shape.length - 1]; column++) {
-            var currentValue = tensor.value(row, column);
-            if (currentValue > currentMax) {
-                currentMax = currentValue;
-                index = column;
-            }
+        BatchStatistics combined(BatchStatistics batchStatistics) {
+            return new BatchStatistics(
+                losses.combined(batchStatistics.losses),
+                correct + batchStatistics.correct
+            );
         }
-        return index;
     }
-
-    private double loss(Outputs outputs, Labels labels) {
-        var loss = lossFunction.loss(outputs.tensor(), labels.tensor());
-        var shape = loss.shape();
-        return Tensor.horizontalVector(1.0 / shape[0])
-                   .broadcasted(1, shape[0])
-                   .contracted(loss)
-                   .value(0, 0);
-    }
-
-    private record DatasetConsumingResult(
-        NeuralNetwork neuralNetwork,
-        NeuralNetworkStatistics neuralNetworkStatistics
-    ) {}
 }
@@ -1,3 +1,17 @@
 package com.github.maximtereshchenko.snapdragon;
 
-record EpochStatistics(NeuralNetworkStatistics training, NeuralNetworkStatistics validation) {}
+record EpochStatistics(
+    NeuralNetworkStatistics training,
+    NeuralNetworkStatistics validation,
+    long savedBytes,
+    PrefetchStatistics prefetchStatistics
+) {
+
+    EpochStatistics(
+        NeuralNetworkStatistics training,
+        NeuralNetworkStatistics validation,
+        long savedBytes
+    ) {
+        this(training, validation, savedBytes, PrefetchStatistics.none());
+    }
+}
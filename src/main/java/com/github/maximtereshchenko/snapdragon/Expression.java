@@ -0,0 +1,238 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+final class Expression {
+
+    private static final Kernels KERNELS = Kernels.available();
+    private static final int CHUNK = 1024;
+
+    private final Node node;
+
+    private Expression(Node node) {
+        this.node = node;
+    }
+
+    static Expression of(Tensor tensor) {
+        return new Expression(new Leaf(tensor));
+    }
+
+    int[] shape() {
+        return node.shape();
+    }
+
+    Expression sum(Expression expression) {
+        return combined(expression, Arithmetic.SUM);
+    }
+
+    Expression difference(Expression expression) {
+        return combined(expression, Arithmetic.DIFFERENCE);
+    }
+
+    Expression product(Expression expression) {
+        return combined(expression, Arithmetic.PRODUCT);
+    }
+
+    Expression quotient(Expression expression) {
+        return combined(expression, Arithmetic.QUOTIENT);
+    }
+
+    Expression maximum(Expression expression) {
+        return combined(expression, Arithmetic.MAXIMUM);
+    }
+
+    Expression map(DoubleUnaryOperator operator) {
+        return new Expression(new Mapped(node, operator));
+    }
+
+    Expression broadcasted(int... shape) {
+        return new Expression(node.broadcasted(shape));
+    }
+
+    boolean readsThroughView(Tensor tensor) {
+        return node.readsThroughView(tensor);
+    }
+
+    Tensor evaluated() {
+        var shape = shape();
+        var values = new double[Arrays.stream(shape).reduce(1, Math::multiplyExact)];
+        var depth = node.depth();
+        ComputeContext.current()
+            .split(
+                values.length,
+                (long) values.length * (depth + 1),
+                (from, to) -> {
+                    var scratch = new double[depth][CHUNK];
+                    for (var chunk = from; chunk < to; chunk += CHUNK) {
+                        node.evaluate(chunk, Math.min(chunk + CHUNK, to), values, chunk, scratch, 0);
+                    }
+                }
+            );
+        return Tensor.wrapped(shape, values);
+    }
+
+    void evaluate(double[] target) {
+        var depth = node.depth();
+        ComputeContext.current()
+            .split(
+                target.length,
+                (long) target.length * (depth + 1),
+                (from, to) -> {
+                    var scratch = new double[depth + 1][CHUNK];
+                    var chunk = scratch[depth];
+                    for (var chunkFrom = from; chunkFrom < to; chunkFrom += CHUNK) {
+                        var chunkTo = Math.min(chunkFrom + CHUNK, to);
+                        node.evaluate(chunkFrom, chunkTo, chunk, 0, scratch, 0);
+                        for (var i = 0; i < chunkTo - chunkFrom; i++) {
+                            if (!Double.isFinite(chunk[i])) {
+                                throw new IllegalArgumentException();
+                            }
+                        }
+                        System.arraycopy(chunk, 0, target, chunkFrom, chunkTo - chunkFrom);
+                    }
+                }
+            );
+    }
+
+    private Expression combined(Expression expression, Arithmetic arithmetic) {
+        if (!Arrays.equals(shape(), expression.shape())) {
+            throw new IllegalArgumentException();
+        }
+        return new Expression(new Combination(node, expression.node, arithmetic));
+    }
+
+    private sealed interface Node {
+
+        int[] shape();
+
+        Node broadcasted(int[] shape);
+
+        int depth();
+
+        boolean readsThroughView(Tensor tensor);
+
+        void evaluate(
+            int from,
+            int to,
+            double[] target,
+            int offset,
+            double[][] scratch,
+            int level
+        );
+    }
+
+    private record Leaf(Tensor tensor) implements Node {
+
+        @Override
+        public int[] shape() {
+            return tensor.shape();
+        }
+
+        @Override
+        public Node broadcasted(int[] shape) {
+            return new Leaf(tensor.broadcasted(shape));
+        }
+
+        @Override
+        public int depth() {
+            return 0;
+        }
+
+        @Override
+        public boolean readsThroughView(Tensor tensor) {
+            return this.tensor.isViewOf(tensor);
+        }
+
+        @Override
+        public void evaluate(
+            int from,
+            int to,
+            double[] target,
+            int offset,
+            double[][] scratch,
+            int level
+        ) {
+            tensor.elements(from, to, target, offset);
+        }
+    }
+
+    private record Combination(Node first, Node second, Arithmetic arithmetic) implements Node {
+
+        @Override
+        public int[] shape() {
+            return first.shape();
+        }
+
+        @Override
+        public Node broadcasted(int[] shape) {
+            return new Combination(first.broadcasted(shape), second.broadcasted(shape), arithmetic);
+        }
+
+        @Override
+        public int depth() {
+            return 1 + Math.max(first.depth(), second.depth());
+        }
+
+        @Override
+        public boolean readsThroughView(Tensor tensor) {
+            return first.readsThroughView(tensor) || second.readsThroughView(tensor);
+        }
+
+        @Override
+        public void evaluate(
+            int from,
+            int to,
+            double[] target,
+            int offset,
+            double[][] scratch,
+            int level
+        ) {
+            first.evaluate(from, to, target, offset, scratch, level + 1);
+            if (second instanceof Leaf leaf) {
+                leaf.tensor().accumulate(arithmetic, from, to, target, offset);
+                return;
+            }
+            second.evaluate(from, to, scratch[level], 0, scratch, level + 1);
+            KERNELS.accumulate(arithmetic, scratch[level], 0, target, offset, to - from);
+        }
+    }
+
+    private record Mapped(Node node, DoubleUnaryOperator operator) implements Node {
+
+        @Override
+        public int[] shape() {
+            return node.shape();
+        }
+
+        @Override
+        public Node broadcasted(int[] shape) {
+            return new Mapped(node.broadcasted(shape), operator);
+        }
+
+        @Override
+        public int depth() {
+            return node.depth();
+        }
+
+        @Override
+        public boolean readsThroughView(Tensor tensor) {
+            return node.readsThroughView(tensor);
+        }
+
+        @Override
+        public void evaluate(
+            int from,
+            int to,
+            double[] target,
+            int offset,
+            double[][] scratch,
+            int level
+        ) {
+            node.evaluate(from, to, target, offset, scratch, level);
+            for (var i = offset; i < offset + to - from; i++) {
+                target[i] = operator.applyAsDouble(target[i]);
+            }
+        }
+    }
+}
@@ -59,21 +59,31 @@ abstract class ForwardPropagationParticipant<T extends ForwardPropagationPartici
     }
 
     final Outputs outputs(Outputs outputs, Weights weights) {
-        var weightedSums = outputs.tensor().contracted(weights.tensor());
-        var shape = weightedSums.shape();
         return new Outputs(
-            activationFunction.apply(weightedSums.sum(biases.tensor().broadcasted(shape)))
+            outputs.tensor().contracted(weights.tensor(), biases.tensor(), activationFunction)
         );
     }
 
-    final T calibrated(Deltas deltas, LearningRate learningRate) {
+    final Tensor gradient(Deltas deltas, int batchSize) {
+        return biases.gradient(deltas, batchSize);
+    }
+
+    final T calibrated(LayerMap<Tensor> gradients, LearningRate learningRate) {
         return calibrated(
             index,
-            biases.calibrated(deltas, learningRate),
+            biases.calibrated(gradients.element(index), learningRate),
             activationFunction
         );
     }
 
+    final void calibrate(LayerMap<Tensor> gradients, LearningRate learningRate) {
+        biases.calibrate(gradients.element(index), learningRate);
+    }
+
+    final T copy() {
+        return calibrated(index, biases.copy(), activationFunction);
+    }
+
     abstract T calibrated(
         LayerIndex index,
         Biases calibrated,
@@ -0,0 +1,15 @@
+package com.github.maximtereshchenko.snapdragon;
+
+record Gradients(LayerMap<Tensor> weights, LayerMap<Tensor> biases, int batchSize) {
+
+    Gradients sum(Gradients gradients) {
+        if (batchSize != gradients.batchSize) {
+            throw new IllegalArgumentException();
+        }
+        return new Gradients(
+            weights.merged(gradients.weights, Tensor::sum),
+            biases.merged(gradients.biases, Tensor::sum),
+            batchSize
+        );
+    }
+}
@@ -33,10 +33,8 @@ final class HiddenLayer extends ForwardPropagationParticipant<HiddenLayer> {
 
     Deltas deltas(Deltas deltas, Outputs outputs, Weights weights) {
         return new Deltas(
-            activationFunction().deltas(
-                outputs.tensor(),
-                deltas.tensor().contracted(weights.tensor().transposed())
-            )
+            deltas.tensor()
+                .backpropagated(weights.tensor(), outputs.tensor(), activationFunction())
         );
     }
 }
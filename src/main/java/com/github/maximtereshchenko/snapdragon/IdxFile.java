@@ -0,0 +1,170 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleUnaryOperator;
+
+final class IdxFile {
+
+    private static final int HEADER_BYTES = 4;
+
+    private final DataType dataType;
+    private final int[] dimensions;
+    private final ByteBuffer data;
+
+    private IdxFile(DataType dataType, int[] dimensions, ByteBuffer data) {
+        this.dataType = dataType;
+        this.dimensions = dimensions;
+        this.data = data;
+    }
+
+    static IdxFile mapped(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return from(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static IdxFile from(ByteBuffer buffer) {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.limit() < HEADER_BYTES || buffer.get(0) != 0 || buffer.get(1) != 0) {
+            throw new IllegalStateException();
+        }
+        var dataType = DataType.from(buffer.get(2));
+        var dimensions = new int[Byte.toUnsignedInt(buffer.get(3))];
+        if (dimensions.length < 1 || buffer.limit() < HEADER_BYTES + dimensions.length * 4) {
+            throw new IllegalStateException();
+        }
+        var length = 1L;
+        for (var i = 0; i < dimensions.length; i++) {
+            dimensions[i] = buffer.getInt(HEADER_BYTES + i * 4);
+            if (dimensions[i] < 0) {
+                throw new IllegalStateException();
+            }
+            length *= dimensions[i];
+        }
+        var dataOffset = HEADER_BYTES + dimensions.length * 4;
+        if (buffer.limit() - dataOffset != length * dataType.bytes) {
+            throw new IllegalStateException();
+        }
+        return new IdxFile(
+            dataType,
+            dimensions,
+            buffer.slice(dataOffset, buffer.limit() - dataOffset).order(ByteOrder.BIG_ENDIAN)
+        );
+    }
+
+    int items() {
+        return dimensions[0];
+    }
+
+    int itemLength() {
+        var length = 1;
+        for (var i = 1; i < dimensions.length; i++) {
+            length *= dimensions[i];
+        }
+        return length;
+    }
+
+    int itemBytes() {
+        return itemLength() * dataType.bytes;
+    }
+
+    boolean hasUnsignedBytes() {
+        return dataType == DataType.UNSIGNED_BYTE;
+    }
+
+    byte[] unsignedBytes() {
+        if (!hasUnsignedBytes()) {
+            throw new IllegalStateException();
+        }
+        var bytes = new byte[data.limit()];
+        data.get(0, bytes);
+        return bytes;
+    }
+
+    int[] integers() {
+        var integers = new int[data.limit() / dataType.bytes];
+        for (var i = 0; i < integers.length; i++) {
+            var value = value(i);
+            if (value != (int) value) {
+                throw new IllegalStateException();
+            }
+            integers[i] = (int) value;
+        }
+        return integers;
+    }
+
+    double value(int index) {
+        return dataType.value(data, index);
+    }
+
+    double[][] normalizedItems() {
+        return items(value -> value / dataType.range);
+    }
+
+    double[][] items(DoubleUnaryOperator function) {
+        var items = new double[items()][];
+        var itemLength = itemLength();
+        ComputeContext.current()
+            .split(
+                items.length,
+                (long) items.length * itemLength,
+                (from, to) -> {
+                    for (var item = from; item < to; item++) {
+                        var values = new double[itemLength];
+                        var offset = item * itemLength;
+                        for (var i = 0; i < itemLength; i++) {
+                            values[i] = function.applyAsDouble(value(offset + i));
+                        }
+                        items[item] = values;
+                    }
+                }
+            );
+        return items;
+    }
+
+    private enum DataType {
+
+        UNSIGNED_BYTE(0x08, 1, 255),
+        SIGNED_BYTE(0x09, 1, 128),
+        SHORT(0x0B, 2, 32_768),
+        INTEGER(0x0C, 4, 2_147_483_648.0),
+        FLOAT(0x0D, 4, 1),
+        DOUBLE(0x0E, 8, 1);
+
+        private final int code;
+        private final int bytes;
+        private final double range;
+
+        DataType(int code, int bytes, double range) {
+            this.code = code;
+            this.bytes = bytes;
+            this.range = range;
+        }
+
+        static DataType from(byte code) {
+            for (var dataType : values()) {
+                if (dataType.code == code) {
+                    return dataType;
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        double value(ByteBuffer buffer, int index) {
+            var offset = index * bytes;
+            return switch (this) {
+                case UNSIGNED_BYTE -> Byte.toUnsignedInt(buffer.get(offset));
+                case SIGNED_BYTE -> buffer.get(offset);
+                case SHORT -> buffer.getShort(offset);
+                case INTEGER -> buffer.getInt(offset);
+                case FLOAT -> buffer.getFloat(offset);
+                case DOUBLE -> buffer.getDouble(offset);
+            };
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.maximtereshchenko.snapdragon;
+
+final class InPlaceCalibration implements Calibration {
+
+    private final MultiLayerPerceptron multiLayerPerceptron;
+
+    InPlaceCalibration(MultiLayerPerceptron multiLayerPerceptron) {
+        this.multiLayerPerceptron = multiLayerPerceptron.copy();
+    }
+
+    @Override
+    public Outputs calibrate(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    ) {
+        return multiLayerPerceptron.calibrate(inputs, labels, lossFunction, learningRate);
+    }
+
+    @Override
+    public NeuralNetwork neuralNetwork() {
+        return multiLayerPerceptron.copy();
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.maximtereshchenko.snapdragon;
+
+interface Kernels {
+
+    int TILE_ROWS = 4;
+
+    static Kernels available() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            var vectorKernels = new VectorKernels();
+            if (vectorKernels.tileColumns() > 1) {
+                return vectorKernels;
+            }
+        }
+        return new ScalarKernels();
+    }
+
+    int tileColumns();
+
+    void tile(
+        double[] left,
+        int leftOffset,
+        int leftStride,
+        double[] packed,
+        int panelOffset,
+        int depth,
+        double[] result,
+        int resultOffset,
+        int resultStride
+    );
+
+    void combine(Arithmetic arithmetic, double[] first, double[] second, double[] result);
+
+    void combine(Arithmetic arithmetic, double[] first, double second, double[] result);
+
+    void combine(Arithmetic arithmetic, double first, double[] second, double[] result);
+
+    double reduce(Arithmetic arithmetic, double[] values, int from, int to);
+
+    void accumulate(
+        Arithmetic arithmetic,
+        double[] source,
+        int sourceOffset,
+        double[] target,
+        int targetOffset,
+        int length
+    );
+
+    void accumulate(
+        Arithmetic arithmetic,
+        double source,
+        double[] target,
+        int targetOffset,
+        int length
+    );
+}
@@ -5,4 +5,24 @@ interface LabeledSample {
     double[] inputs();
 
     double[] labels();
+
+    default int inputsLength() {
+        return inputs().length;
+    }
+
+    default int labelsLength() {
+        return labels().length;
+    }
+
+    long encodedBytes();
+
+    default void copyInputs(double[] target, int offset) {
+        var inputs = inputs();
+        System.arraycopy(inputs, 0, target, offset, inputs.length);
+    }
+
+    default void copyLabels(double[] target, int offset) {
+        var labels = labels();
+        System.arraycopy(labels, 0, target, offset, labels.length);
+    }
 }
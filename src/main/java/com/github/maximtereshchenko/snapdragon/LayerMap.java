@@ -3,6 +3,7 @@ package com.github.maximtereshchenko.snapdragon;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BinaryOperator;
 
 final class LayerMap<T> {
 
@@ -16,6 +17,31 @@ final class LayerMap<T> {
         this(Map.of(layerIndex, element));
     }
 
+    LayerMap() {
+        this(Map.of());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(map);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        return object instanceof LayerMap<?> that &&
+                   Objects.equals(map, that.map);
+    }
+
+    @Override
+    public String toString() {
+        return "LayerMap{" +
+                   "map=" + map +
+                   '}';
+    }
+
     LayerMap<T> with(LayerIndex layerIndex, T element) {
         if (map.containsKey(layerIndex)) {
             throw new IllegalArgumentException();
@@ -28,4 +54,15 @@ final class LayerMap<T> {
     T element(LayerIndex layerIndex) {
         return Objects.requireNonNull(map.get(layerIndex));
     }
+
+    LayerMap<T> merged(LayerMap<T> layerMap, BinaryOperator<T> function) {
+        if (!map.keySet().equals(layerMap.map.keySet())) {
+            throw new IllegalArgumentException();
+        }
+        var merged = new HashMap<LayerIndex, T>();
+        map.forEach((layerIndex, element) ->
+                        merged.put(layerIndex, function.apply(element, layerMap.element(layerIndex)))
+        );
+        return new LayerMap<>(merged);
+    }
 }
@@ -5,4 +5,12 @@ interface LossFunction {
     Tensor loss(Tensor outputs, Tensor labels);
 
     Tensor derivative(Tensor outputs, Tensor labels);
+
+    default double[] sampleLosses(Tensor outputs, Tensor labels) {
+        return loss(outputs, labels).rowSums();
+    }
+
+    default Tensor deltas(ActivationFunction activationFunction, Tensor outputs, Tensor labels) {
+        return activationFunction.deltas(outputs, derivative(outputs, labels));
+    }
 }
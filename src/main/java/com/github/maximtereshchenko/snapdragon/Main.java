@@ -1,43 +1,48 @@
 package com.github.maximtereshchenko.snapdragon;
 
 import java.nio.file.Paths;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
 
 final class Main {
 
     public static void main(String[] args) {
-        var completedTraining = new Training(
-            new MnistSamples<>(
-                Paths.get("./train-images.idx3-ubyte"),
-                Paths.get("./train-labels.idx1-ubyte"),
-                labeledSamples -> new TrainingDataset(
-                    labeledSamples,
-                    100,
-                    ThreadLocalRandom.current()
+        try (var computeContext = new ComputeContext(Runtime.getRuntime().availableProcessors())) {
+            var completedTraining = new Training(
+                new MnistSamples<>(
+                    Paths.get("./train-images.idx3-ubyte"),
+                    Paths.get("./train-labels.idx1-ubyte"),
+                    labeledSamples -> new TrainingDataset(
+                        labeledSamples,
+                        100,
+                        new Random(),
+                        4
+                    )
                 )
+                    .dataset(),
+                new MnistSamples<>(
+                    Paths.get("./t10k-images.idx3-ubyte"),
+                    Paths.get("./t10k-labels.idx1-ubyte"),
+                    labeledSamples -> new ValidationDataset(labeledSamples, 1000)
+                )
+                    .dataset(),
+                new CategoricalCrossEntropy(),
+                new NeuralNetworkFactory(computeContext)
+                    .neuralNetwork(
+                        new Random(),
+                        28 * 28,
+                        2,
+                        10,
+                        new Sigmoid(),
+                        new Softmax()
+                    ),
+                new LearningRate(0.1),
+                new Patience(10),
+                1,
+                computeContext,
+                CalibrationMode.DATA_PARALLEL
             )
-                .dataset(),
-            new MnistSamples<>(
-                Paths.get("./t10k-images.idx3-ubyte"),
-                Paths.get("./t10k-labels.idx1-ubyte"),
-                labeledSamples -> new ValidationDataset(labeledSamples, Integer.MAX_VALUE)
-            )
-                .dataset(),
-            new CategoricalCrossEntropy(),
-            new NeuralNetworkFactory()
-                .neuralNetwork(
-                    ThreadLocalRandom.current(),
-                    28 * 28,
-                    2,
-                    10,
-                    new Sigmoid(),
-                    new Softmax()
-                ),
-            new LearningRate(0.1),
-            new Patience(10),
-            1
-        )
-                                    .completedTraining();
-        System.out.println(completedTraining.statistics());
+                                        .completedTraining();
+            System.out.println(completedTraining.statistics());
+        }
     }
 }
@@ -0,0 +1,454 @@
+package com.github.maximtereshchenko.snapdragon;
+
+record MatrixMultiplication(
+    Kernels kernels,
+    int rows,
+    int shared,
+    int columns,
+    boolean transposedLeft,
+    boolean transposedRight
+) {
+
+    private static final int ROWS_BLOCK = 64;
+    private static final int SHARED_BLOCK = 256;
+    private static final int COLUMNS_BLOCK = 512;
+
+    MatrixMultiplication(Kernels kernels, int rows, int shared, int columns) {
+        this(kernels, rows, shared, columns, false, false);
+    }
+
+    double[] product(double[] left, double[] right) {
+        return product(left, right, new Epilogue() {});
+    }
+
+    double[] product(
+        double[] left,
+        double[] right,
+        double[] biases,
+        ActivationFunction activationFunction
+    ) {
+        return product(left, right, new Activation(biases, activationFunction));
+    }
+
+    double[] deltas(
+        double[] left,
+        double[] right,
+        double[] outputs,
+        ActivationFunction activationFunction
+    ) {
+        return product(left, right, new Derivative(outputs, activationFunction));
+    }
+
+    double[] updated(double[] left, double[] right, double[] weights, double scale) {
+        return product(left, right, new Update(weights, scale));
+    }
+
+    void update(double[] left, double[] right, double[] weights, double scale) {
+        product(left, right, new InPlaceUpdate(weights, scale));
+    }
+
+    double[] batchProduct(int batches, double[] left, double[] right) {
+        if (batches == 1) {
+            return product(left, right);
+        }
+        var result = new double[batches * rows * columns];
+        ComputeContext.current()
+            .split(
+                batches,
+                2L * batches * rows * shared * columns,
+                (from, to) -> {
+                    for (var batch = from; batch < to; batch++) {
+                        product(
+                            new Operands(
+                                left,
+                                batch * rows * shared,
+                                right,
+                                batch * shared * columns,
+                                result,
+                                batch * rows * columns
+                            ),
+                            0,
+                            rows,
+                            new Epilogue() {}
+                        );
+                    }
+                }
+            );
+        return result;
+    }
+
+    private double[] product(double[] left, double[] right, Epilogue epilogue) {
+        var result = new double[rows * columns];
+        var operands = new Operands(left, 0, right, 0, result, 0);
+        ComputeContext.current()
+            .split(
+                (rows + Kernels.TILE_ROWS - 1) / Kernels.TILE_ROWS,
+                2L * rows * shared * columns,
+                (from, to) -> product(
+                    operands,
+                    from * Kernels.TILE_ROWS,
+                    Math.min(to * Kernels.TILE_ROWS, rows),
+                    epilogue
+                )
+            );
+        return result;
+    }
+
+    private void product(Operands operands, int rowsFrom, int rowsTo, Epilogue epilogue) {
+        var left = operands.left();
+        var result = operands.result();
+        var depth = Math.min(SHARED_BLOCK, shared);
+        var packed = new double[depth * roundedUp(Math.min(COLUMNS_BLOCK, columns))];
+        var packedLeft = transposedLeft ? new double[Math.min(ROWS_BLOCK, rows) * depth] : left;
+        var leftOffset = operands.leftOffset();
+        var resultOffset = operands.resultOffset();
+        for (var columnsFrom = 0; columnsFrom < columns; columnsFrom += COLUMNS_BLOCK) {
+            var columnsTo = Math.min(columnsFrom + COLUMNS_BLOCK, columns);
+            for (var sharedFrom = 0; sharedFrom < shared; sharedFrom += SHARED_BLOCK) {
+                var sharedTo = Math.min(sharedFrom + SHARED_BLOCK, shared);
+                pack(operands, packed, sharedFrom, sharedTo, columnsFrom, columnsTo);
+                for (var blockFrom = rowsFrom; blockFrom < rowsTo; blockFrom += ROWS_BLOCK) {
+                    var blockTo = Math.min(blockFrom + ROWS_BLOCK, rowsTo);
+                    if (transposedLeft) {
+                        packLeft(operands, packedLeft, blockFrom, blockTo, sharedFrom, sharedTo);
+                    }
+                    block(
+                        packedLeft,
+                        transposedLeft ? 0 : leftOffset + blockFrom * shared + sharedFrom,
+                        transposedLeft ? sharedTo - sharedFrom : shared,
+                        packed,
+                        result,
+                        resultOffset,
+                        blockFrom,
+                        blockTo,
+                        sharedFrom,
+                        sharedTo,
+                        columnsFrom,
+                        columnsTo
+                    );
+                    if (sharedTo == shared) {
+                        epilogue.block(result, blockFrom, blockTo, columnsFrom, columnsTo);
+                    }
+                }
+            }
+        }
+        epilogue.rows(result, rowsFrom, rowsTo);
+    }
+
+    private int roundedUp(int columns) {
+        var tileColumns = kernels.tileColumns();
+        return (columns + tileColumns - 1) / tileColumns * tileColumns;
+    }
+
+    private void pack(
+        Operands operands,
+        double[] packed,
+        int sharedFrom,
+        int sharedTo,
+        int columnsFrom,
+        int columnsTo
+    ) {
+        var tileColumns = kernels.tileColumns();
+        var depth = sharedTo - sharedFrom;
+        for (var column = columnsFrom; column < columnsTo; column += tileColumns) {
+            var width = Math.min(tileColumns, columnsTo - column);
+            var panel = (column - columnsFrom) * depth;
+            for (var k = 0; k < depth; k++) {
+                var target = panel + k * tileColumns;
+                for (var offset = 0; offset < tileColumns; offset++) {
+                    packed[target + offset] =
+                        offset < width ? rightValue(operands, sharedFrom + k, column + offset) : 0;
+                }
+            }
+        }
+    }
+
+    private double rightValue(Operands operands, int row, int column) {
+        if (transposedRight) {
+            return operands.right()[operands.rightOffset() + column * shared + row];
+        }
+        return operands.right()[operands.rightOffset() + row * columns + column];
+    }
+
+    private void packLeft(
+        Operands operands,
+        double[] packedLeft,
+        int rowsFrom,
+        int rowsTo,
+        int sharedFrom,
+        int sharedTo
+    ) {
+        var depth = sharedTo - sharedFrom;
+        for (var k = 0; k < depth; k++) {
+            var source = operands.leftOffset() + (sharedFrom + k) * rows;
+            for (var row = rowsFrom; row < rowsTo; row++) {
+                packedLeft[(row - rowsFrom) * depth + k] = operands.left()[source + row];
+            }
+        }
+    }
+
+    private void block(
+        double[] left,
+        int leftOffset,
+        int leftStride,
+        double[] packed,
+        double[] result,
+        int resultOffset,
+        int rowsFrom,
+        int rowsTo,
+        int sharedFrom,
+        int sharedTo,
+        int columnsFrom,
+        int columnsTo
+    ) {
+        var tileColumns = kernels.tileColumns();
+        var depth = sharedTo - sharedFrom;
+        for (var column = columnsFrom; column < columnsTo; column += tileColumns) {
+            var width = Math.min(tileColumns, columnsTo - column);
+            var panel = (column - columnsFrom) * depth;
+            for (var row = rowsFrom; row < rowsTo; row += Kernels.TILE_ROWS) {
+                var height = Math.min(Kernels.TILE_ROWS, rowsTo - row);
+                if (height == Kernels.TILE_ROWS && width == tileColumns) {
+                    kernels.tile(
+                        left,
+                        leftOffset + (row - rowsFrom) * leftStride,
+                        leftStride,
+                        packed,
+                        panel,
+                        depth,
+                        result,
+                        resultOffset + row * columns + column,
+                        columns
+                    );
+                } else {
+                    edge(
+                        left,
+                        leftOffset + (row - rowsFrom) * leftStride,
+                        leftStride,
+                        packed,
+                        result,
+                        resultOffset,
+                        row,
+                        height,
+                        depth,
+                        panel,
+                        column,
+                        width
+                    );
+                }
+            }
+        }
+    }
+
+    private void edge(
+        double[] left,
+        int leftOffset,
+        int leftStride,
+        double[] packed,
+        double[] result,
+        int resultOffset,
+        int row,
+        int height,
+        int depth,
+        int panel,
+        int column,
+        int width
+    ) {
+        var tileColumns = kernels.tileColumns();
+        for (var r = 0; r < height; r++) {
+            var a = leftOffset + r * leftStride;
+            var c = resultOffset + (row + r) * columns + column;
+            for (var offset = 0; offset < width; offset++) {
+                var sum = result[c + offset];
+                for (var k = 0; k < depth; k++) {
+                    sum += left[a + k] * packed[panel + k * tileColumns + offset];
+                }
+                result[c + offset] = sum;
+            }
+        }
+    }
+
+    private record Operands(
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        double[] result,
+        int resultOffset
+    ) {}
+
+    private interface Epilogue {
+
+        default void block(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+        }
+
+        default void rows(double[] result, int rowsFrom, int rowsTo) {
+        }
+    }
+
+    private final class Activation implements Epilogue {
+
+        private final double[] biases;
+        private final ActivationFunction activationFunction;
+
+        Activation(double[] biases, ActivationFunction activationFunction) {
+            this.biases = biases;
+            this.activationFunction = activationFunction;
+        }
+
+        @Override
+        public void block(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+            if (activationFunction.isElementWise()) {
+                activate(result, rowsFrom, rowsTo, columnsFrom, columnsTo);
+            }
+        }
+
+        @Override
+        public void rows(double[] result, int rowsFrom, int rowsTo) {
+            if (!activationFunction.isElementWise()) {
+                activate(result, rowsFrom, rowsTo, 0, columns);
+            }
+        }
+
+        private void activate(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+            for (var row = rowsFrom; row < rowsTo; row++) {
+                var from = row * columns + columnsFrom;
+                var to = row * columns + columnsTo;
+                kernels.accumulate(
+                    Arithmetic.SUM,
+                    biases,
+                    columnsFrom,
+                    result,
+                    from,
+                    columnsTo - columnsFrom
+                );
+                activationFunction.applyInPlace(result, from, to);
+            }
+        }
+    }
+
+    private final class Derivative implements Epilogue {
+
+        private final double[] outputs;
+        private final ActivationFunction activationFunction;
+
+        Derivative(double[] outputs, ActivationFunction activationFunction) {
+            this.outputs = outputs;
+            this.activationFunction = activationFunction;
+        }
+
+        @Override
+        public void block(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+            if (activationFunction.isElementWise()) {
+                multiply(result, rowsFrom, rowsTo, columnsFrom, columnsTo);
+            }
+        }
+
+        @Override
+        public void rows(double[] result, int rowsFrom, int rowsTo) {
+            if (!activationFunction.isElementWise()) {
+                multiply(result, rowsFrom, rowsTo, 0, columns);
+            }
+        }
+
+        private void multiply(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+            for (var row = rowsFrom; row < rowsTo; row++) {
+                activationFunction.deltasInPlace(
+                    result,
+                    outputs,
+                    row * columns + columnsFrom,
+                    row * columns + columnsTo
+                );
+            }
+        }
+    }
+
+    private final class Update implements Epilogue {
+
+        private final double[] weights;
+        private final double scale;
+
+        Update(double[] weights, double scale) {
+            this.weights = weights;
+            this.scale = scale;
+        }
+
+        @Override
+        public void block(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+            for (var row = rowsFrom; row < rowsTo; row++) {
+                for (var i = row * columns + columnsFrom; i < row * columns + columnsTo; i++) {
+                    result[i] = weights[i] - result[i] * scale;
+                }
+            }
+        }
+    }
+
+    private final class InPlaceUpdate implements Epilogue {
+
+        private final double[] weights;
+        private final double scale;
+
+        InPlaceUpdate(double[] weights, double scale) {
+            this.weights = weights;
+            this.scale = scale;
+        }
+
+        @Override
+        public void block(
+            double[] result,
+            int rowsFrom,
+            int rowsTo,
+            int columnsFrom,
+            int columnsTo
+        ) {
+            for (var row = rowsFrom; row < rowsTo; row++) {
+                for (var i = row * columns + columnsFrom; i < row * columns + columnsTo; i++) {
+                    if (!Double.isFinite(weights[i] - result[i] * scale)) {
+                        throw new IllegalArgumentException();
+                    }
+                }
+            }
+            for (var row = rowsFrom; row < rowsTo; row++) {
+                for (var i = row * columns + columnsFrom; i < row * columns + columnsTo; i++) {
+                    weights[i] = weights[i] - result[i] * scale;
+                }
+            }
+        }
+    }
+}
@@ -1,19 +1,17 @@
 package com.github.maximtereshchenko.snapdragon;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.nio.ByteBuffer;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 final class MnistSamples<T extends Dataset> {
 
+    private static final int CLASSES = 10;
+
     private final Path inputsPath;
     private final Path labelsPath;
     private final Function<Supplier<List<LabeledSample>>, T> function;
@@ -32,80 +30,48 @@ final class MnistSamples<T extends Dataset> {
         return function.apply(this::labeledSamples);
     }
 
-    <R> List<R> data(Path path, BiFunction<InputStream, Integer, R> function) throws IOException {
-        try (var inputStream = Files.newInputStream(path)) {
-            var data = new ArrayList<R>();
-            var firstMagicNumber = inputStream.read();
-            var secondMagicNumber = inputStream.read();
-            var datatype = inputStream.read();
-            var dimensions = inputStream.read();
-            if (firstMagicNumber != 0 &&
-                    secondMagicNumber != 0 &&
-                    datatype != 8 && //unsigned byte
-                    dimensions < 1) {
-                throw new IllegalStateException();
-            }
-            var size = readInteger(inputStream);
-            var length = length(inputStream, dimensions - 1);
-            for (var currentItem = 0; currentItem < size; currentItem++) {
-                data.add(function.apply(inputStream, length));
-            }
-            return data;
-        }
-    }
-
     private List<LabeledSample> labeledSamples() {
         try {
-            var inputs = data(inputsPath, this::inputs);
-            var labels = data(labelsPath, this::oneHotEncodedLabels);
-            var labeledSamples = new ArrayList<LabeledSample>();
-            for (var i = 0; i < inputs.size(); i++) {
-                labeledSamples.add(new StaticLabeledSample(inputs.get(i), labels.get(i)));
-            }
-            return labeledSamples;
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
-    private double[] inputs(InputStream inputStream, int length) {
-        try {
-            var values = new double[length];
-            for (var currentValue = 0; currentValue < values.length; currentValue++) {
-                values[currentValue] = inputStream.read() / 255.0;
-            }
-            return values;
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
-    private double[] oneHotEncodedLabels(InputStream inputStream, int length) {
-        try {
-            if (length != 1) {
+            var inputs = IdxFile.mapped(inputsPath);
+            var labels = IdxFile.mapped(labelsPath);
+            if (labels.items() != inputs.items() || labels.itemLength() != 1) {
                 throw new IllegalStateException();
             }
-            var oneHotEncodedLabels = new double[10];
-            oneHotEncodedLabels[inputStream.read()] = 1;
-            return oneHotEncodedLabels;
+            if (inputs.hasUnsignedBytes()) {
+                return new CompactLabeledSamples(
+                    inputs.unsignedBytes(),
+                    inputs.itemLength(),
+                    labels.integers(),
+                    CLASSES,
+                    labels.itemBytes()
+                );
+            }
+            return labeledSamples(
+                inputs.normalizedItems(),
+                labels.integers(),
+                inputs.itemBytes() + labels.itemBytes()
+            );
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    private int length(InputStream inputStream, int dimensions) throws IOException {
-        var length = 1;
-        for (var i = 0; i < dimensions; i++) {
-            length *= readInteger(inputStream);
+    private List<LabeledSample> labeledSamples(double[][] inputs, int[] labels, int encodedBytes) {
+        var labeledSamples = new ArrayList<LabeledSample>(inputs.length);
+        for (var i = 0; i < inputs.length; i++) {
+            labeledSamples.add(
+                new StaticLabeledSample(inputs[i], oneHotEncodedLabel(labels[i]), encodedBytes)
+            );
         }
-        return length;
+        return labeledSamples;
     }
 
-    private int readInteger(InputStream inputStream) throws IOException {
-        var buffer = new byte[4];
-        if (inputStream.read(buffer) != buffer.length) {
-            throw new IllegalStateException();
+    private double[] oneHotEncodedLabel(int label) {
+        if (label < 0 || label >= CLASSES) {
+            throw new IllegalArgumentException();
         }
-        return ByteBuffer.wrap(buffer).getInt();
+        var oneHotEncodedLabel = new double[CLASSES];
+        oneHotEncodedLabel[label] = 1;
+        return oneHotEncodedLabel;
     }
 }
@@ -6,30 +6,62 @@ final class MultiLayerPerceptron implements NeuralNetwork {
 
     private final NetworkLayers networkLayers;
     private final NetworkWeights networkWeights;
+    private final ComputeContext computeContext;
 
-    MultiLayerPerceptron(NetworkLayers networkLayers, NetworkWeights networkWeights) {
+    MultiLayerPerceptron(
+        NetworkLayers networkLayers,
+        NetworkWeights networkWeights,
+        ComputeContext computeContext
+    ) {
         this.networkLayers = networkLayers;
         this.networkWeights = networkWeights;
+        this.computeContext = computeContext;
+    }
+
+    MultiLayerPerceptron(NetworkLayers networkLayers, NetworkWeights networkWeights) {
+        this(networkLayers, networkWeights, ComputeContext.common());
     }
 
     @Override
     public Outputs outputs(Inputs inputs) {
-        return networkOutputs(inputs).element(networkLayers.outputLayer().index());
+        return computeContext.invoke(() ->
+                                         networkOutputs(inputs)
+                                             .element(networkLayers.outputLayer().index())
+        );
+    }
+
+    @Override
+    public long flops(int samples) {
+        return 2L * samples * networkWeights.parameters();
     }
 
     @Override
-    public NeuralNetwork calibrated(
+    public CalibrationStep calibrationStep(
         Inputs inputs,
         Labels labels,
         LossFunction lossFunction,
         LearningRate learningRate
     ) {
-        var outputs = networkOutputs(inputs);
-        var deltas = deltas(outputs, lossFunction, labels);
-        return new MultiLayerPerceptron(
-            networkLayers.calibrated(deltas, learningRate),
-            networkWeights.calibrated(outputs, deltas, learningRate)
-        );
+        return computeContext.invoke(() -> {
+            var propagation = propagation(inputs, labels, lossFunction);
+            return new CalibrationStep(
+                new MultiLayerPerceptron(
+                    networkLayers.calibrated(biasGradients(propagation), learningRate),
+                    networkWeights.calibrated(propagation, learningRate),
+                    computeContext
+                ),
+                outputs(propagation)
+            );
+        });
+    }
+
+    @Override
+    public Calibration calibration(CalibrationMode calibrationMode) {
+        return switch (calibrationMode) {
+            case COPYING -> new CopyingCalibration(this);
+            case IN_PLACE, HOGWILD -> new InPlaceCalibration(this);
+            case DATA_PARALLEL -> new DataParallelCalibration(this);
+        };
     }
 
     @Override
@@ -55,6 +87,100 @@ final class MultiLayerPerceptron implements NeuralNetwork {
                    '}';
     }
 
+    Outputs calibrate(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    ) {
+        return computeContext.invoke(() -> {
+            var propagation = propagation(inputs, labels, lossFunction);
+            networkLayers.calibrate(biasGradients(propagation), learningRate);
+            networkWeights.calibrate(propagation, learningRate);
+            return outputs(propagation);
+        });
+    }
+
+    Outputs calibrateDataParallel(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    ) {
+        return computeContext.invoke(() -> {
+            var inputsTensor = inputs.tensor();
+            var labelsTensor = labels.tensor();
+            var batchSize = inputsTensor.shape()[0];
+            var outputsSize = networkLayers.outputLayer().size();
+            var outputs = new double[batchSize * outputsSize];
+            var gradients = computeContext.reduce(
+                batchSize,
+                3 * flops(batchSize),
+                (from, to) -> gradients(
+                    new Inputs(inputsTensor.rows(from, to)),
+                    new Labels(labelsTensor.rows(from, to)),
+                    lossFunction,
+                    batchSize,
+                    outputs,
+                    from * outputsSize
+                ),
+                Gradients::sum
+            );
+            networkLayers.calibrate(gradients.biases(), learningRate);
+            networkWeights.calibrate(gradients, learningRate);
+            return new Outputs(Tensor.wrapped(new int[]{batchSize, outputsSize}, outputs));
+        });
+    }
+
+    MultiLayerPerceptron copy() {
+        return new MultiLayerPerceptron(
+            networkLayers.copy(),
+            networkWeights.copy(),
+            computeContext
+        );
+    }
+
+    private Gradients gradients(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        int batchSize,
+        double[] outputs,
+        int offset
+    ) {
+        var propagation = propagation(inputs, labels, lossFunction, batchSize);
+        var outputsTensor = outputs(propagation).tensor();
+        var shape = outputsTensor.shape();
+        outputsTensor.elements(0, shape[0] * shape[1], outputs, offset);
+        return new Gradients(
+            networkWeights.gradients(propagation.outputs(), propagation.deltas()),
+            biasGradients(propagation),
+            batchSize
+        );
+    }
+
+    private Propagation propagation(Inputs inputs, Labels labels, LossFunction lossFunction) {
+        return propagation(inputs, labels, lossFunction, inputs.tensor().shape()[0]);
+    }
+
+    private Propagation propagation(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        int batchSize
+    ) {
+        var outputs = networkOutputs(inputs);
+        return new Propagation(outputs, deltas(outputs, lossFunction, labels), batchSize);
+    }
+
+    private LayerMap<Tensor> biasGradients(Propagation propagation) {
+        return networkLayers.gradients(propagation.deltas(), propagation.batchSize());
+    }
+
+    private Outputs outputs(Propagation propagation) {
+        return propagation.outputs().element(networkLayers.outputLayer().index());
+    }
+
     private LayerMap<Outputs> networkOutputs(Inputs inputs) {
         return networkLayers.forwardPropagationSegments(networkWeights)
                    .stream()
@@ -76,15 +76,44 @@ final class NetworkLayers {
         return segments;
     }
 
-    NetworkLayers calibrated(LayerMap<Deltas> deltas, LearningRate learningRate) {
+    LayerMap<Tensor> gradients(LayerMap<Deltas> deltas, int batchSize) {
+        var gradients = new LayerMap<Tensor>();
+        for (var hiddenLayer : hiddenLayers) {
+            gradients = gradients.with(
+                hiddenLayer.index(),
+                hiddenLayer.gradient(deltas.element(hiddenLayer.index()), batchSize)
+            );
+        }
+        return gradients.with(
+            outputLayer.index(),
+            outputLayer.gradient(deltas.element(outputLayer.index()), batchSize)
+        );
+    }
+
+    NetworkLayers calibrated(LayerMap<Tensor> gradients, LearningRate learningRate) {
         return new NetworkLayers(
             inputLayer,
             hiddenLayers.stream()
-                .map(hiddenLayer ->
-                         hiddenLayer.calibrated(deltas.element(hiddenLayer.index()), learningRate)
-                )
+                .map(hiddenLayer -> hiddenLayer.calibrated(gradients, learningRate))
+                .toList(),
+            outputLayer.calibrated(gradients, learningRate)
+        );
+    }
+
+    void calibrate(LayerMap<Tensor> gradients, LearningRate learningRate) {
+        for (var hiddenLayer : hiddenLayers) {
+            hiddenLayer.calibrate(gradients, learningRate);
+        }
+        outputLayer.calibrate(gradients, learningRate);
+    }
+
+    NetworkLayers copy() {
+        return new NetworkLayers(
+            inputLayer,
+            hiddenLayers.stream()
+                .map(HiddenLayer::copy)
                 .toList(),
-            outputLayer.calibrated(deltas.element(outputLayer.index()), learningRate)
+            outputLayer.copy()
         );
     }
 
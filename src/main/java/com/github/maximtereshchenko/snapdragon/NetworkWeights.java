@@ -52,11 +52,27 @@ final class NetworkWeights {
         return Objects.requireNonNull(map.get(new AdjacentLayers(left, right)));
     }
 
-    NetworkWeights calibrated(
-        LayerMap<Outputs> outputs,
-        LayerMap<Deltas> deltas,
-        LearningRate learningRate
-    ) {
+    long parameters() {
+        return map.values().stream().mapToLong(Weights::parameters).sum();
+    }
+
+    LayerMap<Tensor> gradients(LayerMap<Outputs> outputs, LayerMap<Deltas> deltas) {
+        var gradients = new LayerMap<Tensor>();
+        for (var entry : map.entrySet()) {
+            var adjacentLayers = entry.getKey();
+            gradients = gradients.with(
+                adjacentLayers.right(),
+                entry.getValue()
+                    .gradient(
+                        outputs.element(adjacentLayers.left()),
+                        deltas.element(adjacentLayers.right())
+                    )
+            );
+        }
+        return gradients;
+    }
+
+    NetworkWeights calibrated(Propagation propagation, LearningRate learningRate) {
         return new NetworkWeights(
             map.entrySet()
                 .stream()
@@ -65,14 +81,44 @@ final class NetworkWeights {
                         Map.Entry::getKey,
                         entry -> entry.getValue()
                                      .calibrated(
-                                         outputs.element(entry.getKey().left()),
-                                         deltas.element(entry.getKey().right()),
-                                         learningRate
+                                         propagation.outputs().element(entry.getKey().left()),
+                                         propagation.deltas().element(entry.getKey().right()),
+                                         learningRate,
+                                         propagation.batchSize()
                                      )
                     )
                 )
         );
     }
 
+    void calibrate(Propagation propagation, LearningRate learningRate) {
+        map.forEach((adjacentLayers, weights) ->
+                        weights.calibrate(
+                            propagation.outputs().element(adjacentLayers.left()),
+                            propagation.deltas().element(adjacentLayers.right()),
+                            learningRate,
+                            propagation.batchSize()
+                        )
+        );
+    }
+
+    void calibrate(Gradients gradients, LearningRate learningRate) {
+        map.forEach((adjacentLayers, weights) ->
+                        weights.calibrate(
+                            gradients.weights().element(adjacentLayers.right()),
+                            learningRate,
+                            gradients.batchSize()
+                        )
+        );
+    }
+
+    NetworkWeights copy() {
+        return new NetworkWeights(
+            map.entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().copy()))
+        );
+    }
+
     private record AdjacentLayers(LayerIndex left, LayerIndex right) {}
 }
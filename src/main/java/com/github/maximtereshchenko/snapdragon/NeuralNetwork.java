@@ -4,10 +4,25 @@ interface NeuralNetwork {
 
     Outputs outputs(Inputs inputs);
 
-    NeuralNetwork calibrated(
+    long flops(int samples);
+
+    CalibrationStep calibrationStep(
         Inputs inputs,
         Labels labels,
         LossFunction lossFunction,
         LearningRate learningRate
     );
+
+    default NeuralNetwork calibrated(
+        Inputs inputs,
+        Labels labels,
+        LossFunction lossFunction,
+        LearningRate learningRate
+    ) {
+        return calibrationStep(inputs, labels, lossFunction, learningRate).neuralNetwork();
+    }
+
+    default Calibration calibration(CalibrationMode calibrationMode) {
+        return new CopyingCalibration(this);
+    }
 }
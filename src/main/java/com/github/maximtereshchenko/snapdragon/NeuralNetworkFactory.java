@@ -7,6 +7,16 @@ import java.util.stream.Stream;
 
 final class NeuralNetworkFactory {
 
+    private final ComputeContext computeContext;
+
+    NeuralNetworkFactory(ComputeContext computeContext) {
+        this.computeContext = computeContext;
+    }
+
+    NeuralNetworkFactory() {
+        this(ComputeContext.common());
+    }
+
     NeuralNetwork neuralNetwork(
         Random random,
         int inputs,
@@ -55,7 +65,8 @@ final class NeuralNetworkFactory {
         networkWeights = networkWeights(networkWeights, left, outputLayer, weights.getLast());
         return new MultiLayerPerceptron(
             new NetworkLayers(inputLayer, hiddenLayers, outputLayer),
-            networkWeights
+            networkWeights,
+            computeContext
         );
     }
 
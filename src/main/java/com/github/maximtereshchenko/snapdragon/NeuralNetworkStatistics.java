@@ -1,13 +1,8 @@
 package com.github.maximtereshchenko.snapdragon;
 
-import java.util.List;
-
-record NeuralNetworkStatistics(List<Double> lossesPerBatch, double accuracy) {
+record NeuralNetworkStatistics(RunningStatistics losses, double accuracy) {
 
     double averageLoss() {
-        return lossesPerBatch.stream()
-                   .mapToDouble(loss -> loss)
-                   .average()
-                   .orElse(0);
+        return losses.mean();
     }
 }
@@ -32,11 +32,11 @@ final class OutputLayer extends ForwardPropagationParticipant<OutputLayer> {
     }
 
     Deltas deltas(LayerMap<Outputs> outputs, LossFunction lossFunction, Labels labels) {
-        var outputsTensor = outputs.element(index()).tensor();
         return new Deltas(
-            activationFunction().deltas(
-                outputsTensor,
-                lossFunction.derivative(outputsTensor, labels.tensor())
+            lossFunction.deltas(
+                activationFunction(),
+                outputs.element(index()).tensor(),
+                labels.tensor()
             )
         );
     }
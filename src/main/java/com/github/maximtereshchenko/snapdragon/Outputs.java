@@ -1,3 +1,24 @@
 package com.github.maximtereshchenko.snapdragon;
 
-record Outputs(Tensor tensor) {}
+record Outputs(Tensor tensor) {
+
+    int correct(Labels labels) {
+        var lastAxis = tensor.shape().length - 1;
+        var predicted = indices(tensor.maximumIndex(lastAxis));
+        var expected = indices(labels.tensor().maximumIndex(lastAxis));
+        var correct = 0;
+        for (var row = 0; row < predicted.length; row++) {
+            if (predicted[row] == expected[row]) {
+                correct++;
+            }
+        }
+        return correct;
+    }
+
+    private double[] indices(Tensor maximumIndex) {
+        var rows = maximumIndex.shape()[0];
+        var indices = new double[rows];
+        maximumIndex.elements(0, rows, indices, 0);
+        return indices;
+    }
+}
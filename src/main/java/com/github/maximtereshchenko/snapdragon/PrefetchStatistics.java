@@ -0,0 +1,18 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.time.Duration;
+
+record PrefetchStatistics(int batches, int stalls, Duration stallTime) {
+
+    static PrefetchStatistics none() {
+        return new PrefetchStatistics(0, 0, Duration.ZERO);
+    }
+
+    PrefetchStatistics combined(PrefetchStatistics prefetchStatistics) {
+        return new PrefetchStatistics(
+            batches + prefetchStatistics.batches,
+            stalls + prefetchStatistics.stalls,
+            stallTime.plus(prefetchStatistics.stallTime)
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+final class PrefetchingIterator implements Iterator<BatchedLabeledSample>, AutoCloseable {
+
+    private final BlockingQueue<Element> queue;
+    private final Thread producer;
+    private Element element;
+    private int batches;
+    private int stalls;
+    private long stallNanos;
+
+    PrefetchingIterator(Iterator<BatchedLabeledSample> source, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.producer = Thread.ofVirtual().start(() -> produce(source));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !(element() instanceof Exhausted);
+    }
+
+    @Override
+    public BatchedLabeledSample next() {
+        if (!(element() instanceof Batch(var batchedLabeledSample))) {
+            throw new NoSuchElementException();
+        }
+        element = null;
+        batches++;
+        return batchedLabeledSample;
+    }
+
+    @Override
+    public void close() {
+        producer.interrupt();
+    }
+
+    PrefetchStatistics statistics() {
+        return new PrefetchStatistics(batches, stalls, Duration.ofNanos(stallNanos));
+    }
+
+    private Element element() {
+        if (element == null) {
+            element = taken();
+        }
+        if (element instanceof Failure(var throwable)) {
+            if (throwable instanceof Error error) {
+                throw error;
+            }
+            if (throwable instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new IllegalStateException(throwable);
+        }
+        return element;
+    }
+
+    private Element taken() {
+        var polled = queue.poll();
+        if (polled != null) {
+            return polled;
+        }
+        var start = System.nanoTime();
+        try {
+            var taken = queue.take();
+            stalls++;
+            stallNanos += System.nanoTime() - start;
+            return taken;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void produce(Iterator<BatchedLabeledSample> source) {
+        Element last;
+        try {
+            while (source.hasNext()) {
+                queue.put(new Batch(source.next()));
+            }
+            last = new Exhausted();
+        } catch (InterruptedException e) {
+            return;
+        } catch (Throwable e) {
+            last = new Failure(e);
+        }
+        try {
+            queue.put(last);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private sealed interface Element permits Batch, Exhausted, Failure {}
+
+    private record Batch(BatchedLabeledSample batchedLabeledSample) implements Element {}
+
+    private record Exhausted() implements Element {}
+
+    private record Failure(Throwable throwable) implements Element {}
+}
@@ -0,0 +1,3 @@
+package com.github.maximtereshchenko.snapdragon;
+
+record Propagation(LayerMap<Outputs> outputs, LayerMap<Deltas> deltas, int batchSize) {}
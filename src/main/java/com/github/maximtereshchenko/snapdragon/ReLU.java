@@ -4,14 +4,36 @@ record ReLU() implements ActivationFunction {
 
     @Override
     public Tensor apply(Tensor tensor) {
-        return Tensor.from(tensor.shape(), index -> Math.max(0, tensor.value(index)));
+        return tensor.maximum(Tensor.horizontalVector(0).broadcasted(tensor.shape()));
+    }
+
+    @Override
+    public boolean isElementWise() {
+        return true;
+    }
+
+    @Override
+    public boolean isFusable() {
+        return true;
+    }
+
+    @Override
+    public void applyInPlace(double[] values, int from, int to) {
+        for (var i = from; i < to; i++) {
+            values[i] = Math.max(values[i], 0);
+        }
+    }
+
+    @Override
+    public void deltasInPlace(double[] errorSignals, double[] outputs, int from, int to) {
+        for (var i = from; i < to; i++) {
+            errorSignals[i] = errorSignals[i] * derivative(outputs[i]);
+        }
     }
 
     @Override
     public Tensor deltas(Tensor outputs, Tensor errorSignal) {
-        return errorSignal.product(
-            Tensor.from(outputs.shape(), index -> derivative(outputs.value(index)))
-        );
+        return errorSignal.zip(outputs, (error, output) -> error * derivative(output));
     }
 
     private double derivative(double value) {
@@ -0,0 +1,152 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class RunningStatistics {
+
+    private final double histogramLower;
+    private final double histogramUpper;
+    private final long[] histogram;
+    private long count;
+    private double sum;
+    private double mean;
+    private double squaredDeviations;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    RunningStatistics(double histogramLower, double histogramUpper, int histogramBins) {
+        if (histogramBins < 0 || histogramBins > 0 && !(histogramLower < histogramUpper)) {
+            throw new IllegalArgumentException();
+        }
+        this.histogramLower = histogramLower;
+        this.histogramUpper = histogramUpper;
+        this.histogram = new long[histogramBins];
+    }
+
+    RunningStatistics() {
+        this(0, 0, 0);
+    }
+
+    static RunningStatistics of(double... values) {
+        var runningStatistics = new RunningStatistics();
+        runningStatistics.addAll(values);
+        return runningStatistics;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, sum, mean, squaredDeviations, min, max) * 31 +
+                   Arrays.hashCode(histogram);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        return object instanceof RunningStatistics that &&
+                   count == that.count &&
+                   Double.compare(sum, that.sum) == 0 &&
+                   Double.compare(mean, that.mean) == 0 &&
+                   Double.compare(squaredDeviations, that.squaredDeviations) == 0 &&
+                   Double.compare(min, that.min) == 0 &&
+                   Double.compare(max, that.max) == 0 &&
+                   hasEqualHistogramBounds(that) &&
+                   Arrays.equals(histogram, that.histogram);
+    }
+
+    @Override
+    public String toString() {
+        return "RunningStatistics[count=%d, mean=%s, variance=%s, min=%s, max=%s]"
+                   .formatted(count, mean(), variance(), min, max);
+    }
+
+    void add(double value) {
+        count++;
+        sum += value;
+        var deviation = value - mean;
+        mean += deviation / count;
+        squaredDeviations += deviation * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (histogram.length > 0) {
+            histogram[bin(value)]++;
+        }
+    }
+
+    void addAll(double[] values) {
+        for (var value : values) {
+            add(value);
+        }
+    }
+
+    RunningStatistics combined(RunningStatistics runningStatistics) {
+        if (!hasEqualHistogramBounds(runningStatistics)) {
+            throw new IllegalArgumentException();
+        }
+        var combined = new RunningStatistics(histogramLower, histogramUpper, histogram.length);
+        combined.count = count + runningStatistics.count;
+        combined.sum = sum + runningStatistics.sum;
+        combined.min = Math.min(min, runningStatistics.min);
+        combined.max = Math.max(max, runningStatistics.max);
+        if (combined.count > 0) {
+            var deviation = runningStatistics.mean - mean;
+            combined.mean = mean + deviation * runningStatistics.count / combined.count;
+            combined.squaredDeviations = squaredDeviations +
+                                             runningStatistics.squaredDeviations +
+                                             deviation * deviation * count *
+                                                 runningStatistics.count / combined.count;
+        }
+        for (var bin = 0; bin < histogram.length; bin++) {
+            combined.histogram[bin] = histogram[bin] + runningStatistics.histogram[bin];
+        }
+        return combined;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double sum() {
+        return sum;
+    }
+
+    double mean() {
+        if (count == 0) {
+            return 0;
+        }
+        return sum / count;
+    }
+
+    double variance() {
+        if (count == 0) {
+            return 0;
+        }
+        return squaredDeviations / count;
+    }
+
+    double min() {
+        return min;
+    }
+
+    double max() {
+        return max;
+    }
+
+    long[] histogram() {
+        return histogram.clone();
+    }
+
+    private int bin(double value) {
+        var bin = (int) ((value - histogramLower) / (histogramUpper - histogramLower) *
+                             histogram.length);
+        return Math.clamp(bin, 0, histogram.length - 1);
+    }
+
+    private boolean hasEqualHistogramBounds(RunningStatistics runningStatistics) {
+        return histogram.length == runningStatistics.histogram.length &&
+                   Double.compare(histogramLower, runningStatistics.histogramLower) == 0 &&
+                   Double.compare(histogramUpper, runningStatistics.histogramUpper) == 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.maximtereshchenko.snapdragon;
+
+final class ScalarKernels implements Kernels {
+
+    private static final int TILE_COLUMNS = 4;
+
+    @Override
+    public int tileColumns() {
+        return TILE_COLUMNS;
+    }
+
+    @Override
+    public void tile(
+        double[] left,
+        int leftOffset,
+        int leftStride,
+        double[] packed,
+        int panelOffset,
+        int depth,
+        double[] result,
+        int resultOffset,
+        int resultStride
+    ) {
+        var first = leftOffset;
+        var second = first + leftStride;
+        var third = second + leftStride;
+        var fourth = third + leftStride;
+        var c0 = resultOffset;
+        var c1 = c0 + resultStride;
+        var c2 = c1 + resultStride;
+        var c3 = c2 + resultStride;
+        double c00 = result[c0], c01 = result[c0 + 1], c02 = result[c0 + 2], c03 = result[c0 + 3];
+        double c10 = result[c1], c11 = result[c1 + 1], c12 = result[c1 + 2], c13 = result[c1 + 3];
+        double c20 = result[c2], c21 = result[c2 + 1], c22 = result[c2 + 2], c23 = result[c2 + 3];
+        double c30 = result[c3], c31 = result[c3 + 1], c32 = result[c3 + 2], c33 = result[c3 + 3];
+        for (var k = 0; k < depth; k++) {
+            var b = panelOffset + k * TILE_COLUMNS;
+            double b0 = packed[b], b1 = packed[b + 1], b2 = packed[b + 2], b3 = packed[b + 3];
+            var a = left[first + k];
+            c00 += a * b0;
+            c01 += a * b1;
+            c02 += a * b2;
+            c03 += a * b3;
+            a = left[second + k];
+            c10 += a * b0;
+            c11 += a * b1;
+            c12 += a * b2;
+            c13 += a * b3;
+            a = left[third + k];
+            c20 += a * b0;
+            c21 += a * b1;
+            c22 += a * b2;
+            c23 += a * b3;
+            a = left[fourth + k];
+            c30 += a * b0;
+            c31 += a * b1;
+            c32 += a * b2;
+            c33 += a * b3;
+        }
+        result[c0] = c00;
+        result[c0 + 1] = c01;
+        result[c0 + 2] = c02;
+        result[c0 + 3] = c03;
+        result[c1] = c10;
+        result[c1 + 1] = c11;
+        result[c1 + 2] = c12;
+        result[c1 + 3] = c13;
+        result[c2] = c20;
+        result[c2 + 1] = c21;
+        result[c2 + 2] = c22;
+        result[c2 + 3] = c23;
+        result[c3] = c30;
+        result[c3 + 1] = c31;
+        result[c3 + 2] = c32;
+        result[c3 + 3] = c33;
+    }
+
+    @Override
+    public void combine(Arithmetic arithmetic, double[] first, double[] second, double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = arithmetic.applyAsDouble(first[i], second[i]);
+        }
+    }
+
+    @Override
+    public void combine(Arithmetic arithmetic, double[] first, double second, double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = arithmetic.applyAsDouble(first[i], second);
+        }
+    }
+
+    @Override
+    public void combine(Arithmetic arithmetic, double first, double[] second, double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = arithmetic.applyAsDouble(first, second[i]);
+        }
+    }
+
+    @Override
+    public double reduce(Arithmetic arithmetic, double[] values, int from, int to) {
+        var result = values[from];
+        for (var i = from + 1; i < to; i++) {
+            result = arithmetic.applyAsDouble(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public void accumulate(
+        Arithmetic arithmetic,
+        double[] source,
+        int sourceOffset,
+        double[] target,
+        int targetOffset,
+        int length
+    ) {
+        for (var i = 0; i < length; i++) {
+            target[targetOffset + i] = arithmetic.applyAsDouble(
+                target[targetOffset + i],
+                source[sourceOffset + i]
+            );
+        }
+    }
+
+    @Override
+    public void accumulate(
+        Arithmetic arithmetic,
+        double source,
+        double[] target,
+        int targetOffset,
+        int length
+    ) {
+        for (var i = targetOffset; i < targetOffset + length; i++) {
+            target[i] = arithmetic.applyAsDouble(target[i], source);
+        }
+    }
+}
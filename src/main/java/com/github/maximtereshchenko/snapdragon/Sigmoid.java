@@ -4,18 +4,35 @@ record Sigmoid() implements ActivationFunction {
 
     @Override
     public Tensor apply(Tensor tensor) {
-        return Tensor.from(tensor.shape(), index -> 1 / (1 + Math.exp(-tensor.value(index))));
+        return tensor.map(value -> 1 / (1 + Math.exp(-value)));
     }
 
     @Override
-    public Tensor deltas(Tensor outputs, Tensor errorSignal) {
-        return errorSignal.product(
-            Tensor.from(outputs.shape(), index -> derivative(outputs, index))
-        );
+    public boolean isElementWise() {
+        return true;
+    }
+
+    @Override
+    public boolean isFusable() {
+        return true;
+    }
+
+    @Override
+    public void applyInPlace(double[] values, int from, int to) {
+        for (var i = from; i < to; i++) {
+            values[i] = 1 / (1 + Math.exp(-values[i]));
+        }
+    }
+
+    @Override
+    public void deltasInPlace(double[] errorSignals, double[] outputs, int from, int to) {
+        for (var i = from; i < to; i++) {
+            errorSignals[i] = errorSignals[i] * (outputs[i] * (1 - outputs[i]));
+        }
     }
 
-    private double derivative(Tensor outputs, int[] index) {
-        var output = outputs.value(index);
-        return output * (1 - output);
+    @Override
+    public Tensor deltas(Tensor outputs, Tensor errorSignal) {
+        return errorSignal.zip(outputs, (error, output) -> error * (output * (1 - output)));
     }
 }
@@ -5,38 +5,55 @@ record Softmax() implements ActivationFunction {
     @Override
     public Tensor apply(Tensor tensor) {
         var shape = tensor.shape();
-        var exponents = Tensor.from(shape, index -> Math.exp(tensor.value(index)));
-        return exponents.quotient(
-            exponents.contracted(
-                    Tensor.horizontalVector(1)
-                        .broadcasted(shape[shape.length - 1], 1)
-                )
-                .broadcasted(shape)
-        );
+        var exponents = tensor.map(Math::exp);
+        return exponents.quotient(exponents.sum(shape.length - 1).broadcasted(shape));
     }
 
     @Override
-    public Tensor deltas(Tensor outputs, Tensor errorSignal) {
-        var shape = outputs.shape();
-        var batchedJacobianMatrices = Tensor.from(
-            new int[]{shape[0], shape[shape.length - 1], shape[shape.length - 1]},
-            index -> jacobian(index, outputs)
-        );
-        return errorSignal.batchContracted(batchedJacobianMatrices);
+    public boolean fusesWithCrossEntropy() {
+        return true;
+    }
+
+    @Override
+    public boolean isFusable() {
+        return true;
+    }
+
+    @Override
+    public void applyInPlace(double[] values, int from, int to) {
+        var sum = 0.0;
+        for (var i = from; i < to; i++) {
+            values[i] = Math.exp(values[i]);
+            sum += values[i];
+        }
+        for (var i = from; i < to; i++) {
+            values[i] /= sum;
+        }
     }
 
-    private double jacobian(int[] index, Tensor outputs) {
-        var batch = index[0];
-        var row = index[1];
-        var column = index[2];
-        return outputs.value(batch, row) *
-                   (kroneckerDelta(row, column) - outputs.value(batch, column));
+    @Override
+    public void deltasInPlace(double[] errorSignals, double[] outputs, int from, int to) {
+        var weighted = 0.0;
+        for (var i = from; i < to; i++) {
+            weighted += errorSignals[i] * outputs[i];
+        }
+        for (var i = from; i < to; i++) {
+            errorSignals[i] = outputs[i] * (errorSignals[i] - weighted);
+        }
     }
 
-    private int kroneckerDelta(int row, int column) {
-        if (row == column) {
-            return 1;
+    @Override
+    public Tensor deltas(Tensor outputs, Tensor errorSignal) {
+        var shape = outputs.shape();
+        var classes = shape[shape.length - 1];
+        var length = shape[0] * classes;
+        var deltas = new double[length];
+        var outputsValues = new double[length];
+        errorSignal.elements(0, length, deltas, 0);
+        outputs.elements(0, length, outputsValues, 0);
+        for (var from = 0; from < length; from += classes) {
+            deltasInPlace(deltas, outputsValues, from, from + classes);
         }
-        return 0;
+        return Tensor.wrapped(shape, deltas);
     }
 }
@@ -2,7 +2,12 @@ package com.github.maximtereshchenko.snapdragon;
 
 import java.util.Arrays;
 
-record StaticLabeledSample(double[] inputs, double[] labels) implements LabeledSample {
+record StaticLabeledSample(double[] inputs, double[] labels, long encodedBytes)
+    implements LabeledSample {
+
+    StaticLabeledSample(double[] inputs, double[] labels) {
+        this(inputs, labels, (long) (inputs.length + labels.length) * Double.BYTES);
+    }
 
     @Override
     public boolean equals(Object object) {
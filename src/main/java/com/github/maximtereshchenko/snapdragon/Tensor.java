@@ -1,11 +1,8 @@
 package com.github.maximtereshchenko.snapdragon;
 
-import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Arrays;
 import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -24,23 +21,74 @@ import java.util.function.ToDoubleFunction;
  * ArrayBasedTensorBenchmark.lastValue        avgt    5         3.974 ±        0.059  ns/op
  * ArrayBasedTensorBenchmark.sum              avgt    5  98662410.208 ± 24821094.719  ns/op
  * ArrayBasedTensorBenchmark.transposed       avgt    5         2.683 ±        0.044  ns/op
+ * <p>
+ * Benchmark                                              Mode  Cnt          Score           Error  Units
+ * PerCellContractionTensorBenchmark.contracted           avgt    5  740843572.533 ± 397717924.610  ns/op
+ * BlockedMatrixMultiplicationTensorBenchmark.contracted  avgt    5   16701454.239 ±   1908386.333  ns/op
+ * <p>
+ * Benchmark                                Mode  Cnt         Score         Error  Units
+ * ScalarKernelsTensorBenchmark.contracted  avgt    5  20370803.963 ± 7091575.880  ns/op
+ * ScalarKernelsTensorBenchmark.sum         avgt    5     80872.125 ±    5548.684  ns/op
+ * VectorKernelsTensorBenchmark.contracted  avgt    5   5066987.214 ±  835333.034  ns/op
+ * VectorKernelsTensorBenchmark.sum         avgt    5     76115.492 ±   13984.536  ns/op
+ * <p>
+ * Benchmark                                                   Mode  Cnt         Score        Error  Units
+ * CompletableFuturePerElementTensorBenchmark.batchContracted  avgt    5    557232.484 ± 233521.429  ns/op
+ * CompletableFuturePerElementTensorBenchmark.filled           avgt    5  10370987.251 ± 417260.277  ns/op
+ * RangeChunkedFillTensorBenchmark.batchContracted             avgt    5    202675.065 ±  47959.008  ns/op
+ * RangeChunkedFillTensorBenchmark.filled                      avgt    5    233060.368 ±  11088.578  ns/op
+ * <p>
+ * Benchmark                                      Mode  Cnt        Score        Error  Units
+ * InterfaceShapeTensorBenchmark.batchContracted  avgt    5   240899.141 ±  44486.309  ns/op
+ * InterfaceShapeTensorBenchmark.broadcastedSum   avgt    5  1791593.203 ± 172560.886  ns/op
+ * InterfaceShapeTensorBenchmark.transposedSum    avgt    5  2666187.219 ± 281440.788  ns/op
+ * StridedShapeTensorBenchmark.batchContracted    avgt    5   131251.669 ±  26933.472  ns/op
+ * StridedShapeTensorBenchmark.broadcastedSum     avgt    5   762474.302 ± 137027.070  ns/op
+ * StridedShapeTensorBenchmark.transposedSum      avgt    5    85154.902 ±  18052.545  ns/op
+ * <p>
+ * Benchmark                                                       Mode  Cnt         Score         Error  Units
+ * IndexIteratorTensorBenchmark.broadcastedSum                     avgt    5    802950.983 ±  244707.718  ns/op
+ * IndexIteratorTensorBenchmark.broadcastedSum:gc.alloc.rate.norm  avgt    5    417786.327 ±       0.728   B/op
+ * IndexIteratorTensorBenchmark.equalTo                            avgt    5  20216102.245 ± 1634977.520  ns/op
+ * IndexIteratorTensorBenchmark.equalTo:gc.alloc.rate.norm         avgt    5  18816082.443 ±       4.377   B/op
+ * IndexIteratorTensorBenchmark.filled                             avgt    5    237885.334 ±   18553.785  ns/op
+ * IndexIteratorTensorBenchmark.filled:gc.alloc.rate.norm          avgt    5    417736.688 ±       0.062   B/op
+ * IndexIteratorTensorBenchmark.hashed                             avgt    5  19672099.454 ± 2329337.193  ns/op
+ * IndexIteratorTensorBenchmark.hashed:gc.alloc.rate.norm          avgt    5  18816080.867 ±       6.428   B/op
+ * CursorTensorBenchmark.broadcastedSum                            avgt    5    437754.803 ±  217967.253  ns/op
+ * CursorTensorBenchmark.broadcastedSum:gc.alloc.rate.norm         avgt    5    417833.275 ±       0.636   B/op
+ * CursorTensorBenchmark.equalTo                                   avgt    5   5409060.575 ±  950590.571  ns/op
+ * CursorTensorBenchmark.equalTo:gc.alloc.rate.norm                avgt    5        63.553 ±       2.670   B/op
+ * CursorTensorBenchmark.filled                                    avgt    5    261015.154 ±   24259.145  ns/op
+ * CursorTensorBenchmark.filled:gc.alloc.rate.norm                 avgt    5    417736.758 ±       0.073   B/op
+ * CursorTensorBenchmark.hashed                                    avgt    5   2610957.055 ±  372113.314  ns/op
+ * CursorTensorBenchmark.hashed:gc.alloc.rate.norm                 avgt    5        31.522 ±       1.087   B/op
  */
 public final class Tensor {
 
+    private static final Kernels KERNELS = Kernels.available();
+    private static final long FUNCTION_FLOPS = 8;
+
     private final double[] values;
     private final Shape shape;
+    private final boolean borrowed;
 
-    private Tensor(double[] values, Shape shape) {
+    private Tensor(double[] values, Shape shape, boolean borrowed) {
         this.values = values;
         this.shape = shape;
+        this.borrowed = borrowed;
+    }
+
+    private Tensor(double[] values, Shape shape) {
+        this(values, shape, false);
     }
 
     public static Tensor from(int[] shape, double... values) {
-        var arrayBasedShape = ArrayBasedShape.from(shape);
-        if (length(arrayBasedShape) != values.length) {
+        var contiguous = Shape.contiguous(shape);
+        if (contiguous.length() != values.length) {
             throw new IllegalArgumentException();
         }
-        var tensor = empty(arrayBasedShape);
+        var tensor = empty(contiguous);
         for (var i = 0; i < values.length; i++) {
             tensor.set(i, values[i]);
         }
@@ -48,7 +96,20 @@ public final class Tensor {
     }
 
     static Tensor from(int[] shape, ToDoubleFunction<int[]> function) {
-        return from(ArrayBasedShape.from(shape), function);
+        return from(Shape.contiguous(shape), FUNCTION_FLOPS, function);
+    }
+
+    static Tensor wrapped(int[] shape, double[] values) {
+        var contiguous = Shape.contiguous(shape);
+        if (contiguous.length() != values.length) {
+            throw new IllegalArgumentException();
+        }
+        return checked(contiguous, values);
+    }
+
+    static Tensor borrowed(int[] shape, double[] values) {
+        var wrapped = wrapped(shape, values);
+        return new Tensor(wrapped.values, wrapped.shape, true);
     }
 
     static Tensor horizontalVector(double... values) {
@@ -63,61 +124,47 @@ public final class Tensor {
         return from(new int[]{rows, columns}, values);
     }
 
-    private static Tensor from(Shape shape, ToDoubleFunction<int[]> function) {
+    private static Tensor from(
+        Shape shape,
+        long flopsPerElement,
+        ToDoubleFunction<int[]> function
+    ) {
         var tensor = empty(shape);
-        try (var executor = Executors.newWorkStealingPool()) {
-            fillAsync(executor, tensor, new IndexIterator(shape.array()), function);
-        }
+        var length = tensor.values.length;
+        ComputeContext.current()
+            .split(
+                length,
+                length * flopsPerElement,
+                (from, to) -> tensor.fill(from, to, function)
+            );
         return tensor;
     }
 
-    private static void fillAsync(
-        ExecutorService executor,
-        Tensor tensor,
-        Iterator<int[]> indexes,
-        ToDoubleFunction<int[]> function
-    ) {
-        var futures = new ArrayList<CompletableFuture<Void>>();
-        while (indexes.hasNext()) {
-            var index = indexes.next();
-            futures.add(
-                CompletableFuture.runAsync(
-                    () -> tensor.set(index, function.applyAsDouble(index)),
-                    executor
-                )
-            );
-        }
-        await(futures);
+    private static Tensor checked(Shape shape, double[] values) {
+        requireFinite(values);
+        return new Tensor(values, shape);
     }
 
-    private static void await(List<CompletableFuture<Void>> futures) {
-        try {
-            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
-        } catch (CompletionException e) {
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
+    private static void requireFinite(double[] values) {
+        for (var value : values) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException();
             }
         }
     }
 
     private static Tensor empty(Shape shape) {
-        return new Tensor(new double[length(shape)], shape);
-    }
-
-    private static int length(Shape shape) {
-        var length = 1;
-        for (var component : shape.array()) {
-            length *= component;
-        }
-        return length;
+        return new Tensor(new double[shape.length()], shape);
     }
 
     @Override
     public int hashCode() {
         var result = 1.0;
-        var iterator = new IndexIterator(shape.array());
-        while (iterator.hasNext()) {
-            result = 31 * result + value(iterator.next());
+        var cursor = shape.cursor(0);
+        var length = shape.length();
+        for (var element = 0; element < length; element++) {
+            result = 31 * result + values[cursor.offset()];
+            cursor.advance();
         }
         return (int) result;
     }
@@ -130,12 +177,15 @@ public final class Tensor {
         if (!(object instanceof Tensor tensor && hasEqualShape(tensor))) {
             return false;
         }
-        var iterator = new IndexIterator(shape.array());
-        while (iterator.hasNext()) {
-            var index = iterator.next();
-            if (value(index) != tensor.value(index)) {
+        var cursor = shape.cursor(0);
+        var other = tensor.shape.cursor(0);
+        var length = shape.length();
+        for (var element = 0; element < length; element++) {
+            if (values[cursor.offset()] != tensor.values[other.offset()]) {
                 return false;
             }
+            cursor.advance();
+            other.advance();
         }
         return true;
     }
@@ -149,42 +199,383 @@ public final class Tensor {
     }
 
     Tensor sum(Tensor tensor) {
-        return combined(tensor, Double::sum);
+        return combined(tensor, Arithmetic.SUM);
     }
 
     Tensor difference(Tensor tensor) {
-        return combined(tensor, (first, second) -> first - second);
+        return combined(tensor, Arithmetic.DIFFERENCE);
     }
 
     Tensor product(Tensor tensor) {
-        return combined(tensor, (first, second) -> first * second);
+        return combined(tensor, Arithmetic.PRODUCT);
     }
 
     Tensor quotient(Tensor tensor) {
-        return combined(tensor, (first, second) -> first / second);
+        return combined(tensor, Arithmetic.QUOTIENT);
+    }
+
+    Tensor maximum(Tensor tensor) {
+        return combined(tensor, Arithmetic.MAXIMUM);
+    }
+
+    Tensor map(DoubleUnaryOperator operator) {
+        var mapped = new double[shape.length()];
+        ComputeContext.current()
+            .split(
+                mapped.length,
+                mapped.length * FUNCTION_FLOPS,
+                (from, to) -> {
+                    if (shape.isContiguous()) {
+                        for (var element = from; element < to; element++) {
+                            mapped[element] = operator.applyAsDouble(values[element]);
+                        }
+                        return;
+                    }
+                    var cursor = shape.cursor(from);
+                    for (var element = from; element < to; element++) {
+                        mapped[element] = operator.applyAsDouble(values[cursor.offset()]);
+                        cursor.advance();
+                    }
+                }
+            );
+        return checked(Shape.contiguous(shape.array()), mapped);
     }
 
-    Tensor broadcasted(int... shape) {
+    Tensor zip(Tensor tensor, DoubleBinaryOperator operator) {
+        if (!hasEqualShape(tensor)) {
+            throw new IllegalArgumentException();
+        }
+        var zipped = new double[shape.length()];
+        ComputeContext.current()
+            .split(
+                zipped.length,
+                zipped.length * FUNCTION_FLOPS,
+                (from, to) -> {
+                    if (shape.isContiguous() && tensor.shape.isContiguous()) {
+                        for (var element = from; element < to; element++) {
+                            zipped[element] = operator.applyAsDouble(
+                                values[element],
+                                tensor.values[element]
+                            );
+                        }
+                        return;
+                    }
+                    var cursor = shape.cursor(from);
+                    var other = tensor.shape.cursor(from);
+                    for (var element = from; element < to; element++) {
+                        zipped[element] = operator.applyAsDouble(
+                            values[cursor.offset()],
+                            tensor.values[other.offset()]
+                        );
+                        cursor.advance();
+                        other.advance();
+                    }
+                }
+            );
+        return checked(Shape.contiguous(shape.array()), zipped);
+    }
+
+    Tensor zip(Tensor second, Tensor third, DoubleTernaryOperator operator) {
+        if (!hasEqualShape(second) || !hasEqualShape(third)) {
+            throw new IllegalArgumentException();
+        }
+        var zipped = new double[shape.length()];
+        ComputeContext.current()
+            .split(
+                zipped.length,
+                zipped.length * FUNCTION_FLOPS,
+                (from, to) -> {
+                    if (shape.isContiguous() && second.shape.isContiguous() &&
+                            third.shape.isContiguous()) {
+                        for (var element = from; element < to; element++) {
+                            zipped[element] = operator.applyAsDouble(
+                                values[element],
+                                second.values[element],
+                                third.values[element]
+                            );
+                        }
+                        return;
+                    }
+                    var cursor = shape.cursor(from);
+                    var secondCursor = second.shape.cursor(from);
+                    var thirdCursor = third.shape.cursor(from);
+                    for (var element = from; element < to; element++) {
+                        zipped[element] = operator.applyAsDouble(
+                            values[cursor.offset()],
+                            second.values[secondCursor.offset()],
+                            third.values[thirdCursor.offset()]
+                        );
+                        cursor.advance();
+                        secondCursor.advance();
+                        thirdCursor.advance();
+                    }
+                }
+            );
+        return checked(Shape.contiguous(shape.array()), zipped);
+    }
+
+    double sum() {
+        var sum = 0.0;
+        var cursor = shape.cursor(0);
+        var length = shape.length();
+        for (var element = 0; element < length; element++) {
+            sum += values[cursor.offset()];
+            cursor.advance();
+        }
+        return sum;
+    }
+
+    Tensor sum(int axis) {
+        return reduced(axis, Arithmetic.SUM);
+    }
+
+    Tensor mean(int axis) {
+        return mean(axis, shape.array()[axis]);
+    }
+
+    Tensor mean(int axis, int count) {
+        var sum = reduced(axis, Arithmetic.SUM);
+        KERNELS.combine(Arithmetic.QUOTIENT, sum.values, count, sum.values);
+        return sum;
+    }
+
+    Tensor maximum(int axis) {
+        return reduced(axis, Arithmetic.MAXIMUM);
+    }
+
+    Tensor maximumIndex(int axis) {
+        var reduced = empty(reduced(axis));
+        var source = shape.isContiguous() ? values : copy().values;
+        var length = shape.array()[axis];
+        var inner = inner(axis);
+        var outer = source.length / (length * inner);
+        ComputeContext.current()
+            .split(
+                outer * inner,
+                source.length,
+                (from, to) -> {
+                    for (var element = from; element < to; element++) {
+                        var first = element / inner * length * inner + element % inner;
+                        var maximum = source[first];
+                        var index = 0;
+                        for (var k = 1; k < length; k++) {
+                            var value = source[first + k * inner];
+                            if (value > maximum) {
+                                maximum = value;
+                                index = k;
+                            }
+                        }
+                        reduced.values[element] = index;
+                    }
+                }
+            );
+        return reduced;
+    }
+
+    double[] rowSums() {
+        return reduced(shape.array().length - 1, Arithmetic.SUM).values;
+    }
+
+    Expression lazy() {
+        return Expression.of(this);
+    }
+
+    void assign(Expression expression) {
+        if (!shape.isContiguous() ||
+                !Arrays.equals(shape(), expression.shape()) ||
+                expression.readsThroughView(this)) {
+            throw new IllegalArgumentException();
+        }
+        expression.evaluate(values);
+    }
+
+    boolean isViewOf(Tensor tensor) {
+        return values == tensor.values && !(shape.isContiguous() && hasEqualShape(tensor));
+    }
+
+    void elements(int from, int to, double[] target, int offset) {
+        if (shape.isContiguous()) {
+            System.arraycopy(values, from, target, offset, to - from);
+            return;
+        }
+        if (isScalar()) {
+            Arrays.fill(target, offset, offset + to - from, values[0]);
+            return;
+        }
+        var cursor = shape.cursor(from);
+        for (var element = from; element < to; element++) {
+            target[offset + element - from] = values[cursor.offset()];
+            cursor.advance();
+        }
+    }
+
+    void accumulate(Arithmetic arithmetic, int from, int to, double[] target, int offset) {
+        if (shape.isContiguous()) {
+            KERNELS.accumulate(arithmetic, values, from, target, offset, to - from);
+            return;
+        }
+        if (isScalar()) {
+            KERNELS.accumulate(arithmetic, values[0], target, offset, to - from);
+            return;
+        }
+        var cursor = shape.cursor(from);
+        for (var i = offset; i < offset + to - from; i++) {
+            target[i] = arithmetic.applyAsDouble(target[i], values[cursor.offset()]);
+            cursor.advance();
+        }
+    }
+
+    Tensor copy() {
+        var copy = new double[shape.length()];
+        var cursor = shape.cursor(0);
+        for (var element = 0; element < copy.length; element++) {
+            copy[element] = values[cursor.offset()];
+            cursor.advance();
+        }
+        return new Tensor(copy, Shape.contiguous(shape.array()));
+    }
+
+    Tensor rows(int from, int to) {
+        var shapeArray = shape.array().clone();
+        if (from < 0 || to > shapeArray[0] || from >= to) {
+            throw new IllegalArgumentException();
+        }
+        if (from == 0 && to == shapeArray[0] && !borrowed) {
+            return this;
+        }
+        var source = shape.isContiguous() ? values : copy().values;
+        var rowLength = source.length / shapeArray[0];
+        shapeArray[0] = to - from;
         return new Tensor(
-            values,
-            BroadcastedShape.from(this.shape, ArrayBasedShape.from(shape))
+            Arrays.copyOfRange(source, from * rowLength, to * rowLength),
+            Shape.contiguous(shapeArray)
         );
     }
 
+    Tensor concatenated(Tensor tensor) {
+        var shapeArray = shape.array().clone();
+        var otherShapeArray = tensor.shape.array();
+        if (shapeArray.length != otherShapeArray.length) {
+            throw new IllegalArgumentException();
+        }
+        for (var i = 1; i < shapeArray.length; i++) {
+            if (shapeArray[i] != otherShapeArray[i]) {
+                throw new IllegalArgumentException();
+            }
+        }
+        var first = shape.isContiguous() ? values : copy().values;
+        var second = tensor.shape.isContiguous() ? tensor.values : tensor.copy().values;
+        var concatenated = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, concatenated, first.length, second.length);
+        shapeArray[0] += otherShapeArray[0];
+        return new Tensor(concatenated, Shape.contiguous(shapeArray));
+    }
+
+    Tensor broadcasted(int... shape) {
+        return new Tensor(values, this.shape.broadcasted(shape), borrowed);
+    }
+
     Tensor transposed() {
-        return new Tensor(values, new TransposedShape(shape));
+        return new Tensor(values, shape.transposed(), borrowed);
     }
 
     Tensor contracted(Tensor tensor) {
+        var contracted = contracted(tensor.shape, 0);
+        if (isRankTwo() && tensor.isRankTwo()) {
+            return checked(
+                contracted,
+                matrixMultiplication(tensor).product(operandValues(), tensor.operandValues())
+            );
+        }
         return from(
-            contracted(tensor.shape, 0),
+            contracted,
+            2L * shape.array()[shape.array().length - 1],
             index -> productSum(tensor, index, 0)
         );
     }
 
+    Tensor contracted(Tensor tensor, Tensor biases, ActivationFunction activationFunction) {
+        var contracted = contracted(tensor.shape, 0);
+        var shapeArray = contracted.array();
+        if (!activationFunction.isFusable() ||
+                !isRankTwo() || !tensor.isRankTwo() || !biases.isMatrix() ||
+                !Arrays.equals(biases.shape(), new int[]{1, shapeArray[1]})) {
+            return activationFunction.apply(contracted(tensor).sum(biases.broadcasted(shapeArray)));
+        }
+        return checked(
+            contracted,
+            matrixMultiplication(tensor)
+                .product(operandValues(), tensor.operandValues(), biases.values, activationFunction)
+        );
+    }
+
+    Tensor backpropagated(
+        Tensor weights,
+        Tensor outputs,
+        ActivationFunction activationFunction
+    ) {
+        var transposed = weights.transposed();
+        var contracted = contracted(transposed.shape, 0);
+        if (!activationFunction.isFusable() ||
+                !isRankTwo() || !transposed.isRankTwo() || !outputs.isMatrix() ||
+                !Arrays.equals(outputs.shape(), contracted.array())) {
+            return activationFunction.deltas(outputs, contracted(transposed));
+        }
+        return checked(
+            contracted,
+            matrixMultiplication(transposed)
+                .deltas(
+                    operandValues(),
+                    transposed.operandValues(),
+                    outputs.values,
+                    activationFunction
+                )
+        );
+    }
+
+    Tensor updated(Tensor left, Tensor right, double scale) {
+        if (!isUpdatable(left, right)) {
+            return lazy().difference(scaled(left.contracted(right), scale)).evaluated();
+        }
+        return checked(
+            shape,
+            left.matrixMultiplication(right)
+                .updated(left.operandValues(), right.operandValues(), values, scale)
+        );
+    }
+
+    void update(Tensor left, Tensor right, double scale) {
+        if (!isUpdatable(left, right)) {
+            assign(lazy().difference(scaled(left.contracted(right), scale)));
+            return;
+        }
+        left.matrixMultiplication(right)
+            .update(left.operandValues(), right.operandValues(), values, scale);
+    }
+
     Tensor batchContracted(Tensor tensor) {
+        var contracted = contracted(tensor.shape, 1);
+        var shapeArray = shape.array();
+        var otherShapeArray = tensor.shape.array();
+        if (shapeArray.length <= 3 && otherShapeArray.length == 3) {
+            return checked(
+                contracted,
+                new MatrixMultiplication(
+                    KERNELS,
+                    shapeArray.length == 3 ? shapeArray[1] : 1,
+                    otherShapeArray[1],
+                    otherShapeArray[2]
+                )
+                    .batchProduct(
+                        shapeArray[0],
+                        contiguousValues(),
+                        tensor.contiguousValues()
+                    )
+            );
+        }
         return from(
-            contracted(tensor.shape, 1),
+            contracted,
+            2L * shape.array()[shape.array().length - 1],
             index -> productSum(tensor, index, 1)
         );
     }
@@ -215,11 +606,15 @@ public final class Tensor {
             thisShapeArray.length - 1,
             otherShapeArray.length - dimension - 1
         );
-        return ArrayBasedShape.from(contracted);
+        return Shape.contiguous(contracted);
     }
 
-    private void set(int[] index, double value) {
-        set(shape.offset(index), value);
+    private void fill(int from, int to, ToDoubleFunction<int[]> function) {
+        var cursor = shape.cursor(from);
+        for (var element = from; element < to; element++) {
+            set(cursor.offset(), function.applyAsDouble(cursor.index()));
+            cursor.advance();
+        }
     }
 
     private void set(int index, double value) {
@@ -229,6 +624,102 @@ public final class Tensor {
         values[index] = value;
     }
 
+    private Tensor reduced(int axis, Arithmetic arithmetic) {
+        var reducedShape = reduced(axis);
+        var source = shape.isContiguous() ? values : copy().values;
+        var length = shape.array()[axis];
+        var inner = inner(axis);
+        var outer = source.length / (length * inner);
+        var reduced = new double[outer * inner];
+        if (outer > 1) {
+            ComputeContext.current()
+                .split(
+                    outer,
+                    source.length,
+                    (from, to) -> reduce(
+                        arithmetic,
+                        source,
+                        length,
+                        inner,
+                        reduced,
+                        from,
+                        to,
+                        0,
+                        inner
+                    )
+                );
+        } else {
+            ComputeContext.current()
+                .split(
+                    inner,
+                    source.length,
+                    (from, to) -> reduce(
+                        arithmetic,
+                        source,
+                        length,
+                        inner,
+                        reduced,
+                        0,
+                        1,
+                        from,
+                        to
+                    )
+                );
+        }
+        return checked(reducedShape, reduced);
+    }
+
+    private void reduce(
+        Arithmetic arithmetic,
+        double[] source,
+        int length,
+        int inner,
+        double[] reduced,
+        int outerFrom,
+        int outerTo,
+        int innerFrom,
+        int innerTo
+    ) {
+        for (var outer = outerFrom; outer < outerTo; outer++) {
+            var first = outer * length * inner;
+            if (inner == 1) {
+                reduced[outer] = KERNELS.reduce(arithmetic, source, first, first + length);
+                continue;
+            }
+            var target = outer * inner + innerFrom;
+            var width = innerTo - innerFrom;
+            System.arraycopy(source, first + innerFrom, reduced, target, width);
+            for (var k = 1; k < length; k++) {
+                KERNELS.accumulate(
+                    arithmetic,
+                    source,
+                    first + k * inner + innerFrom,
+                    reduced,
+                    target,
+                    width
+                );
+            }
+        }
+    }
+
+    private Shape reduced(int axis) {
+        if (axis < 0 || axis >= shape.array().length) {
+            throw new IllegalArgumentException();
+        }
+        var reduced = shape.array().clone();
+        reduced[axis] = 1;
+        return Shape.contiguous(reduced);
+    }
+
+    private int inner(int axis) {
+        var components = shape.array();
+        var inner = 1;
+        for (var i = axis + 1; i < components.length; i++) {
+            inner *= components[i];
+        }
+        return inner;
+    }
+
     private double productSum(Tensor tensor, int[] index, int dimension) {
         var thisShapeArray = shape.array();
         var left = new int[thisShapeArray.length];
@@ -256,40 +747,114 @@ public final class Tensor {
         return sum;
     }
 
-    private Tensor combined(Tensor tensor, DoubleBinaryOperator operator) {
+    private Tensor combined(Tensor tensor, Arithmetic arithmetic) {
         if (!hasEqualShape(tensor)) {
             throw new IllegalArgumentException();
         }
-        return Tensor.from(
-            ArrayBasedShape.from(shape.array()),
-            index -> operator.applyAsDouble(value(index), tensor.value(index))
+        var combinedShape = Shape.contiguous(shape.array());
+        var combined = new double[combinedShape.length()];
+        combine(tensor, arithmetic, combined);
+        return checked(combinedShape, combined);
+    }
+
+    private void combine(Tensor tensor, Arithmetic arithmetic, double[] combined) {
+        if (shape.isContiguous() && tensor.shape.isContiguous()) {
+            KERNELS.combine(arithmetic, values, tensor.values, combined);
+            return;
+        }
+        if (shape.isContiguous() && tensor.isScalar()) {
+            KERNELS.combine(arithmetic, values, tensor.values[0], combined);
+            return;
+        }
+        if (isScalar() && tensor.shape.isContiguous()) {
+            KERNELS.combine(arithmetic, values[0], tensor.values, combined);
+            return;
+        }
+        ComputeContext.current()
+            .split(
+                combined.length,
+                combined.length,
+                (from, to) -> {
+                    var cursor = shape.cursor(from);
+                    var other = tensor.shape.cursor(from);
+                    for (var element = from; element < to; element++) {
+                        combined[element] = arithmetic.applyAsDouble(
+                            values[cursor.offset()],
+                            tensor.values[other.offset()]
+                        );
+                        cursor.advance();
+                        other.advance();
+                    }
+                }
+            );
+    }
+
+    private MatrixMultiplication matrixMultiplication(Tensor tensor) {
+        var shapeArray = shape.array();
+        return new MatrixMultiplication(
+            KERNELS,
+            shapeArray[0],
+            shapeArray[1],
+            tensor.shape.array()[1],
+            isTransposedMatrix(),
+            tensor.isTransposedMatrix()
         );
     }
 
-    private boolean hasEqualShape(Tensor tensor) {
-        return Arrays.equals(shape(), tensor.shape());
+    private boolean isUpdatable(Tensor left, Tensor right) {
+        return isMatrix() && left.isRankTwo() && right.isRankTwo() &&
+                   left.values != values && right.values != values &&
+                   Arrays.equals(shape(), left.contracted(right.shape, 0).array());
     }
 
-    private interface Shape {
+    private Expression scaled(Tensor tensor, double scale) {
+        return tensor.lazy()
+                   .product(Tensor.horizontalVector(scale).lazy().broadcasted(tensor.shape()));
+    }
 
-        int offset(int[] index);
+    private double[] contiguousValues() {
+        return shape.isContiguous() ? values : copy().values;
+    }
 
-        int[] array();
+    private double[] operandValues() {
+        return isTransposedMatrix() ? values : contiguousValues();
     }
 
-    private static final class ArrayBasedShape implements Shape {
+    private boolean isTransposedMatrix() {
+        return !shape.isContiguous() && shape.isTransposed();
+    }
+
+    private boolean isRankTwo() {
+        return shape.array().length == 2;
+    }
+
+    private boolean isScalar() {
+        return values.length == 1;
+    }
+
+    private boolean isMatrix() {
+        return shape.isContiguous() && shape.array().length == 2;
+    }
+
+    private boolean hasEqualShape(Tensor tensor) {
+        return Arrays.equals(shape(), tensor.shape());
+    }
+
+    private static final class Shape {
 
         private final int[] components;
+        private final int[] strides;
 
-        private ArrayBasedShape(int[] components) {
+        private Shape(int[] components, int[] strides) {
             this.components = components;
+            this.strides = strides;
         }
 
-        static Shape from(int[] components) {
+        static Shape contiguous(int[] components) {
             if (components.length < 2 || hasNonPositive(components)) {
                 throw new IllegalArgumentException();
             }
-            return new ArrayBasedShape(components);
+            return new Shape(components, rowMajorStrides(components));
         }
 
         private static boolean hasNonPositive(int[] components) {
@@ -301,150 +866,122 @@ public final class Tensor {
             return false;
         }
 
-        @Override
-        public int offset(int[] index) {
-            var offset = 0;
-            for (var i = 0; i < index.length; i++) {
-                var added = index[i];
-                for (var next = i + 1; next < components.length; next++) {
-                    added *= components[next];
-                }
-                offset += added;
+        private static int[] rowMajorStrides(int[] components) {
+            var strides = new int[components.length];
+            var stride = 1;
+            for (var i = components.length - 1; i >= 0; i--) {
+                strides[i] = stride;
+                stride *= components[i];
             }
-            return offset;
-        }
-
-        @Override
-        public int[] array() {
-            return components;
-        }
-    }
-
-    private static final class BroadcastedShape implements Shape {
-
-        private final Shape original;
-        private final Shape broadcasted;
-
-        private BroadcastedShape(Shape original, Shape broadcasted) {
-            this.original = original;
-            this.broadcasted = broadcasted;
+            return strides;
         }
 
-        static Shape from(Shape original, Shape broadcasted) {
-            var broadcastedArray = broadcasted.array();
-            var originalArray = original.array();
-            int difference = broadcastedArray.length - originalArray.length;
+        Shape broadcasted(int[] components) {
+            var broadcasted = contiguous(components);
+            var difference = components.length - this.components.length;
             if (difference < 0) {
                 throw new IllegalArgumentException();
             }
-            for (var i = broadcastedArray.length - 1; i >= 0; i--) {
-                var originalIndex = i - difference;
-                if (
-                    originalIndex >= 0 &&
-                        originalArray[originalIndex] != 1 &&
-                        originalArray[originalIndex] != broadcastedArray[i]
-                ) {
+            var broadcastedStrides = new int[components.length];
+            for (var i = components.length - 1; i >= difference; i--) {
+                var originalComponent = this.components[i - difference];
+                if (originalComponent == components[i]) {
+                    broadcastedStrides[i] = strides[i - difference];
+                } else if (originalComponent != 1) {
                     throw new IllegalArgumentException();
                 }
             }
-            return new BroadcastedShape(original, broadcasted);
+            return new Shape(broadcasted.components, broadcastedStrides);
         }
 
-        @Override
-        public int offset(int[] index) {
-            var originalArray = original.array();
-            var originalIndex = new int[originalArray.length];
-            var broadcastedArray = broadcasted.array();
-            int difference = broadcastedArray.length - originalArray.length;
-            for (var i = 0; i < originalIndex.length; i++) {
-                originalIndex[i] = Math.min(originalArray[i] - 1, index[i + difference]);
-            }
-            return original.offset(originalIndex);
+        Shape transposed() {
+            return new Shape(rotated(components), rotated(strides));
         }
 
-        @Override
-        public int[] array() {
-            return broadcasted.array();
+        private int[] rotated(int[] array) {
+            var rotated = new int[array.length];
+            System.arraycopy(array, 0, rotated, 1, array.length - 1);
+            rotated[0] = array[array.length - 1];
+            return rotated;
         }
-    }
 
-    private static final class TransposedShape implements Shape {
+        int offset(int[] index) {
+            var offset = 0;
+            for (var i = 0; i < index.length; i++) {
+                offset += index[i] * strides[i];
+            }
+            return offset;
+        }
 
-        private final Shape original;
+        Cursor cursor(int element) {
+            var index = new int[components.length];
+            var remainder = element;
+            for (var i = components.length - 1; i >= 0; i--) {
+                index[i] = remainder % components[i];
+                remainder /= components[i];
+            }
+            return new Cursor(components, strides, index, offset(index));
+        }
 
-        TransposedShape(Shape original) {
-            this.original = original;
+        int[] array() {
+            return components;
         }
 
-        @Override
-        public int offset(int[] index) {
-            var reversedIndex = new int[index.length];
-            System.arraycopy(index, 1, reversedIndex, 0, index.length - 1);
-            reversedIndex[reversedIndex.length - 1] = index[0];
-            return original.offset(reversedIndex);
+        int length() {
+            var length = 1;
+            for (var component : components) {
+                length *= component;
+            }
+            return length;
         }
 
-        @Override
-        public int[] array() {
-            var originalArray = original.array();
-            var transposed = new int[originalArray.length];
-            System.arraycopy(
-                originalArray,
-                0,
-                transposed,
-                1,
-                originalArray.length - 1
-            );
-            transposed[0] = originalArray[originalArray.length - 1];
-            return transposed;
+        boolean isTransposed() {
+            return components.length == 2 && strides[0] == 1 && strides[1] == components[0];
+        }
+
+        boolean isContiguous() {
+            var stride = 1;
+            for (var i = components.length - 1; i >= 0; i--) {
+                if (components[i] != 1 && strides[i] != stride) {
+                    return false;
+                }
+                stride *= components[i];
+            }
+            return true;
         }
     }
 
-    private static final class IndexIterator implements Iterator<int[]> {
+    private static final class Cursor {
 
+        private final int[] components;
+        private final int[] strides;
         private final int[] index;
-        private final int[] shape;
-        private boolean advance = false;
-        private boolean exhausted = false;
+        private int offset;
 
-        IndexIterator(int[] shape) {
-            this.index = new int[shape.length];
-            this.shape = shape;
+        Cursor(int[] components, int[] strides, int[] index, int offset) {
+            this.components = components;
+            this.strides = strides;
+            this.index = index;
+            this.offset = offset;
         }
 
-        @Override
-        public boolean hasNext() {
-            advance();
-            return !exhausted;
+        int offset() {
+            return offset;
         }
 
-        @Override
-        public int[] next() {
-            if (!hasNext()) {
-                throw new NoSuchElementException();
-            }
-            advance = true;
-            var copy = new int[index.length];
-            System.arraycopy(index, 0, copy, 0, index.length);
-            return copy;
+        int[] index() {
+            return index;
         }
 
-        private void advance() {
-            if (!advance || exhausted) {
-                return;
-            }
-            var offset = index.length - 1;
-            while (offset >= 0) {
-                if (index[offset] == shape[offset] - 1) {
-                    index[offset] = 0;
-                    offset--;
-                } else {
-                    index[offset]++;
-                    advance = false;
+        void advance() {
+            for (var i = index.length - 1; i >= 0; i--) {
+                offset += strides[i];
+                if (++index[i] < components[i]) {
                     return;
                 }
+                offset -= strides[i] * components[i];
+                index[i] = 0;
             }
-            exhausted = true;
         }
     }
 }
@@ -11,6 +11,8 @@ final class Training {
     private final LearningRate learningRate;
     private final Patience patience;
     private final int maxEpochs;
+    private final ComputeContext computeContext;
+    private final CalibrationMode calibrationMode;
 
     Training(
         TrainingDataset trainingDataset,
@@ -19,7 +21,9 @@ final class Training {
         NeuralNetwork neuralNetwork,
         LearningRate learningRate,
         Patience patience,
-        int maxEpochs
+        int maxEpochs,
+        ComputeContext computeContext,
+        CalibrationMode calibrationMode
     ) {
         this.trainingDataset = trainingDataset;
         this.validationDataset = validationDataset;
@@ -28,9 +32,59 @@ final class Training {
         this.learningRate = learningRate;
         this.patience = patience;
         this.maxEpochs = maxEpochs;
+        this.computeContext = computeContext;
+        this.calibrationMode = calibrationMode;
+    }
+
+    Training(
+        TrainingDataset trainingDataset,
+        ValidationDataset validationDataset,
+        LossFunction lossFunction,
+        NeuralNetwork neuralNetwork,
+        LearningRate learningRate,
+        Patience patience,
+        int maxEpochs,
+        ComputeContext computeContext
+    ) {
+        this(
+            trainingDataset,
+            validationDataset,
+            lossFunction,
+            neuralNetwork,
+            learningRate,
+            patience,
+            maxEpochs,
+            computeContext,
+            CalibrationMode.COPYING
+        );
+    }
+
+    Training(
+        TrainingDataset trainingDataset,
+        ValidationDataset validationDataset,
+        LossFunction lossFunction,
+        NeuralNetwork neuralNetwork,
+        LearningRate learningRate,
+        Patience patience,
+        int maxEpochs
+    ) {
+        this(
+            trainingDataset,
+            validationDataset,
+            lossFunction,
+            neuralNetwork,
+            learningRate,
+            patience,
+            maxEpochs,
+            ComputeContext.common()
+        );
     }
 
     CompletedTraining completedTraining() {
+        return computeContext.invoke(this::epochs);
+    }
+
+    private CompletedTraining epochs() {
         var current = new Epoch(
             maxEpochs,
             trainingDataset,
@@ -38,7 +92,8 @@ final class Training {
             lossFunction,
             neuralNetwork,
             learningRate,
-            patience
+            patience,
+            calibrationMode
         );
         var epochStatistics = new ArrayList<EpochStatistics>();
         while (true) {
@@ -1,7 +1,5 @@
 package com.github.maximtereshchenko.snapdragon;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Supplier;
@@ -13,16 +11,28 @@ final class TrainingDataset extends Dataset {
     TrainingDataset(
         Supplier<List<LabeledSample>> supplier,
         int batchSize,
-        Random random
+        Random random,
+        int prefetchedBatches
     ) {
-        super(supplier, batchSize);
+        super(supplier, batchSize, prefetchedBatches);
         this.random = random;
     }
 
+    TrainingDataset(
+        Supplier<List<LabeledSample>> supplier,
+        int batchSize,
+        Random random
+    ) {
+        this(supplier, batchSize, random, 0);
+    }
+
     @Override
-    List<LabeledSample> labeledSamples(Supplier<List<LabeledSample>> supplier) {
-        var labeledSamples = new ArrayList<>(supplier.get());
-        Collections.shuffle(labeledSamples, random);
-        return labeledSamples;
+    void reorder(int[] indices) {
+        for (var i = indices.length; i > 1; i--) {
+            var swapped = random.nextInt(i);
+            var index = indices[i - 1];
+            indices[i - 1] = indices[swapped];
+            indices[swapped] = index;
+        }
     }
 }
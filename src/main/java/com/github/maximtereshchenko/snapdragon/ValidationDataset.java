@@ -6,11 +6,10 @@ import java.util.function.Supplier;
 final class ValidationDataset extends Dataset {
 
     ValidationDataset(Supplier<List<LabeledSample>> supplier, int batchSize) {
-        super(supplier, batchSize);
+        super(supplier, batchSize, 0);
     }
 
     @Override
-    List<LabeledSample> labeledSamples(Supplier<List<LabeledSample>> supplier) {
-        return supplier.get();
+    void reorder(int[] indices) {
     }
 }
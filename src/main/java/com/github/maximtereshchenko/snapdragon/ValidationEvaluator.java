@@ -0,0 +1,66 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import java.util.Iterator;
+
+final class ValidationEvaluator {
+
+    private final LossFunction lossFunction;
+
+    ValidationEvaluator(LossFunction lossFunction) {
+        this.lossFunction = lossFunction;
+    }
+
+    NeuralNetworkStatistics neuralNetworkStatistics(
+        NeuralNetwork neuralNetwork,
+        ValidationDataset validationDataset
+    ) {
+        var batches = validationDataset.batches();
+        if (batches == 0) {
+            throw new IllegalStateException();
+        }
+        var chunkStatistics = ComputeContext.current()
+                                  .reduce(
+                                      batches,
+                                      neuralNetwork.flops(validationDataset.samples()),
+                                      (from, to) -> chunkStatistics(
+                                          neuralNetwork,
+                                          validationDataset.reusingBatchedLabeledSamples(from, to)
+                                      ),
+                                      ChunkStatistics::combined
+                                  );
+        return new NeuralNetworkStatistics(
+            chunkStatistics.losses(),
+            (double) chunkStatistics.correct() / chunkStatistics.losses().count()
+        );
+    }
+
+    private ChunkStatistics chunkStatistics(
+        NeuralNetwork neuralNetwork,
+        Iterator<BatchedLabeledSample> samples
+    ) {
+        var losses = new RunningStatistics();
+        var correct = 0;
+        while (samples.hasNext()) {
+            var batchedLabeledSample = samples.next();
+            var outputs = neuralNetwork.outputs(batchedLabeledSample.inputs());
+            losses.addAll(
+                lossFunction.sampleLosses(
+                    outputs.tensor(),
+                    batchedLabeledSample.labels().tensor()
+                )
+            );
+            correct += outputs.correct(batchedLabeledSample.labels());
+        }
+        return new ChunkStatistics(losses, correct);
+    }
+
+    private record ChunkStatistics(RunningStatistics losses, int correct) {
+
+        ChunkStatistics combined(ChunkStatistics chunkStatistics) {
+            return new ChunkStatistics(
+                losses.combined(chunkStatistics.losses),
+                correct + chunkStatistics.correct
+            );
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorKernels implements Kernels {
+
+    private final VectorSpecies<Double> species;
+
+    VectorKernels(VectorSpecies<Double> species) {
+        this.species = species;
+    }
+
+    VectorKernels() {
+        this(DoubleVector.SPECIES_PREFERRED);
+    }
+
+    @Override
+    public int tileColumns() {
+        return species.length();
+    }
+
+    @Override
+    public void tile(
+        double[] left,
+        int leftOffset,
+        int leftStride,
+        double[] packed,
+        int panelOffset,
+        int depth,
+        double[] result,
+        int resultOffset,
+        int resultStride
+    ) {
+        var first = leftOffset;
+        var second = first + leftStride;
+        var third = second + leftStride;
+        var fourth = third + leftStride;
+        var c0 = resultOffset;
+        var c1 = c0 + resultStride;
+        var c2 = c1 + resultStride;
+        var c3 = c2 + resultStride;
+        var firstRow = DoubleVector.fromArray(species, result, c0);
+        var secondRow = DoubleVector.fromArray(species, result, c1);
+        var thirdRow = DoubleVector.fromArray(species, result, c2);
+        var fourthRow = DoubleVector.fromArray(species, result, c3);
+        for (var k = 0; k < depth; k++) {
+            var b = DoubleVector.fromArray(species, packed, panelOffset + k * species.length());
+            firstRow = firstRow.add(b.mul(left[first + k]));
+            secondRow = secondRow.add(b.mul(left[second + k]));
+            thirdRow = thirdRow.add(b.mul(left[third + k]));
+            fourthRow = fourthRow.add(b.mul(left[fourth + k]));
+        }
+        firstRow.intoArray(result, c0);
+        secondRow.intoArray(result, c1);
+        thirdRow.intoArray(result, c2);
+        fourthRow.intoArray(result, c3);
+    }
+
+    @Override
+    public void combine(Arithmetic arithmetic, double[] first, double[] second, double[] result) {
+        var bound = species.loopBound(result.length);
+        var i = 0;
+        for (; i < bound; i += species.length()) {
+            combined(
+                arithmetic,
+                DoubleVector.fromArray(species, first, i),
+                DoubleVector.fromArray(species, second, i)
+            )
+                .intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = arithmetic.applyAsDouble(first[i], second[i]);
+        }
+    }
+
+    @Override
+    public void combine(Arithmetic arithmetic, double[] first, double second, double[] result) {
+        var broadcasted = DoubleVector.broadcast(species, second);
+        var bound = species.loopBound(result.length);
+        var i = 0;
+        for (; i < bound; i += species.length()) {
+            combined(arithmetic, DoubleVector.fromArray(species, first, i), broadcasted)
+                .intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = arithmetic.applyAsDouble(first[i], second);
+        }
+    }
+
+    @Override
+    public void combine(Arithmetic arithmetic, double first, double[] second, double[] result) {
+        var broadcasted = DoubleVector.broadcast(species, first);
+        var bound = species.loopBound(result.length);
+        var i = 0;
+        for (; i < bound; i += species.length()) {
+            combined(arithmetic, broadcasted, DoubleVector.fromArray(species, second, i))
+                .intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = arithmetic.applyAsDouble(first, second[i]);
+        }
+    }
+
+    @Override
+    public double reduce(Arithmetic arithmetic, double[] values, int from, int to) {
+        var length = to - from;
+        var bound = species.loopBound(length);
+        if (bound == 0) {
+            var result = values[from];
+            for (var i = from + 1; i < to; i++) {
+                result = arithmetic.applyAsDouble(result, values[i]);
+            }
+            return result;
+        }
+        var accumulator = DoubleVector.fromArray(species, values, from);
+        var i = species.length();
+        for (; i < bound; i += species.length()) {
+            accumulator = combined(
+                arithmetic,
+                accumulator,
+                DoubleVector.fromArray(species, values, from + i)
+            );
+        }
+        var result = accumulator.reduceLanes(associative(arithmetic));
+        for (; i < length; i++) {
+            result = arithmetic.applyAsDouble(result, values[from + i]);
+        }
+        return result;
+    }
+
+    @Override
+    public void accumulate(
+        Arithmetic arithmetic,
+        double[] source,
+        int sourceOffset,
+        double[] target,
+        int targetOffset,
+        int length
+    ) {
+        var bound = species.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += species.length()) {
+            combined(
+                arithmetic,
+                DoubleVector.fromArray(species, target, targetOffset + i),
+                DoubleVector.fromArray(species, source, sourceOffset + i)
+            )
+                .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] = arithmetic.applyAsDouble(
+                target[targetOffset + i],
+                source[sourceOffset + i]
+            );
+        }
+    }
+
+    @Override
+    public void accumulate(
+        Arithmetic arithmetic,
+        double source,
+        double[] target,
+        int targetOffset,
+        int length
+    ) {
+        var broadcasted = DoubleVector.broadcast(species, source);
+        var bound = species.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += species.length()) {
+            combined(
+                arithmetic,
+                DoubleVector.fromArray(species, target, targetOffset + i),
+                broadcasted
+            )
+                .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] = arithmetic.applyAsDouble(target[targetOffset + i], source);
+        }
+    }
+
+    private VectorOperators.Associative associative(Arithmetic arithmetic) {
+        return switch (arithmetic) {
+            case SUM -> VectorOperators.ADD;
+            case PRODUCT -> VectorOperators.MUL;
+            case MAXIMUM -> VectorOperators.MAX;
+            case DIFFERENCE, QUOTIENT -> throw new IllegalArgumentException();
+        };
+    }
+
+    private DoubleVector combined(Arithmetic arithmetic, DoubleVector first, DoubleVector second) {
+        return switch (arithmetic) {
+            case SUM -> first.add(second);
+            case DIFFERENCE -> first.sub(second);
+            case PRODUCT -> first.mul(second);
+            case QUOTIENT -> first.div(second);
+            case MAXIMUM -> first.max(second);
+        };
+    }
+}
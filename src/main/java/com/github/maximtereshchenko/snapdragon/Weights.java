@@ -1,18 +1,54 @@
 package com.github.maximtereshchenko.snapdragon;
 
+import java.util.Arrays;
+
 record Weights(Tensor tensor) {
 
-    Weights calibrated(Outputs outputs, Deltas deltas, LearningRate learningRate) {
-        var deltasTensor = deltas.tensor();
-        var contracted = outputs.tensor().transposed().contracted(deltasTensor);
+    Tensor gradient(Outputs outputs, Deltas deltas) {
+        return outputs.tensor().transposed().contracted(deltas.tensor());
+    }
+
+    Weights calibrated(
+        Outputs outputs,
+        Deltas deltas,
+        LearningRate learningRate,
+        int batchSize
+    ) {
         return new Weights(
-            tensor.difference(
-                contracted.product(
-                    Tensor.horizontalVector(
-                            learningRate.value() / deltasTensor.shape()[0]
-                        )
-                        .broadcasted(contracted.shape()))
+            tensor.updated(
+                outputs.tensor().transposed(),
+                deltas.tensor(),
+                learningRate.value() / batchSize
             )
         );
     }
+
+    void calibrate(Outputs outputs, Deltas deltas, LearningRate learningRate, int batchSize) {
+        tensor.update(
+            outputs.tensor().transposed(),
+            deltas.tensor(),
+            learningRate.value() / batchSize
+        );
+    }
+
+    void calibrate(Tensor gradient, LearningRate learningRate, int batchSize) {
+        tensor.assign(tensor.lazy().difference(adjustment(gradient, learningRate, batchSize)));
+    }
+
+    long parameters() {
+        return Arrays.stream(tensor.shape()).asLongStream().reduce(1, Math::multiplyExact);
+    }
+
+    Weights copy() {
+        return new Weights(tensor.copy());
+    }
+
+    private Expression adjustment(Tensor gradient, LearningRate learningRate, int batchSize) {
+        return gradient.lazy()
+                   .product(
+                       Tensor.horizontalVector(learningRate.value() / batchSize)
+                           .lazy()
+                           .broadcasted(gradient.shape())
+                   );
+    }
 }
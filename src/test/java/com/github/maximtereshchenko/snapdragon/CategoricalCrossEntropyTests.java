@@ -87,4 +87,49 @@ final class CategoricalCrossEntropyTests {
                 )
             );
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenSoftmax_whenDeltas_thenOutputsMinusLabels() {
+        assertThat(
+            lossFunction.deltas(
+                new Softmax(),
+                Tensor.horizontalVector(0.2, 0.3, 0.5),
+                Tensor.horizontalVector(0, 0, 1)
+            )
+        )
+            .isEqualTo(Tensor.horizontalVector(0.2, 0.3, 0.5 - 1));
+    }
+
+    @Test
+    void givenFusingActivationFunction_whenDeltas_thenOutputsMinusLabels() {
+        assertThat(
+            lossFunction.deltas(
+                new FakeActivationFunction(true),
+                Tensor.horizontalVector(0.2, 0.8),
+                Tensor.horizontalVector(0, 1)
+            )
+        )
+            .isEqualTo(Tensor.horizontalVector(0.2, 0.8 - 1));
+    }
+
+    @Test
+    void givenNonFusingActivationFunction_whenDeltas_thenDerivative() {
+        assertThat(
+            lossFunction.deltas(
+                new FakeActivationFunction(),
+                Tensor.horizontalVector(0.2, 0.8),
+                Tensor.horizontalVector(0, 1)
+            )
+        )
+            .isEqualTo(Tensor.horizontalVector(-0.0, -1 / 0.8));
+    }
+
+    @Test
+    void givenSigmoid_whenDeltas_thenDerivativeBackpropagatedThroughActivation() {
+        var outputs = Tensor.horizontalVector(0.2, 0.5);
+        var labels = Tensor.horizontalVector(0, 1);
+
+        assertThat(lossFunction.deltas(new Sigmoid(), outputs, labels))
+            .isEqualTo(Tensor.horizontalVector(-0.0 * (0.2 * 0.8), -1 / 0.5 * (0.5 * 0.5)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class CompactLabeledSamplesTests {
+
+    private final CompactLabeledSamples labeledSamples = new CompactLabeledSamples(
+        new byte[]{0, 51, (byte) 255, 1, (byte) 128, 2},
+        3,
+        new int[]{2, 0},
+        3
+    );
+
+    @Test
+    void givenBytes_whenInputs_thenNormalizedInputs() {
+        assertThat(labeledSamples.get(0).inputs()).containsExactly(0, 51 / 255.0, 1);
+        assertThat(labeledSamples.get(1).inputs())
+            .containsExactly(1 / 255.0, 128 / 255.0, 2 / 255.0);
+    }
+
+    @Test
+    void givenClass_whenLabels_thenOneHotEncodedLabels() {
+        assertThat(labeledSamples.get(0).labels()).containsExactly(0, 0, 1);
+        assertThat(labeledSamples.get(1).labels()).containsExactly(1, 0, 0);
+    }
+
+    @Test
+    void givenSamples_whenSize_thenNumberOfLabels() {
+        assertThat(labeledSamples).hasSize(2);
+    }
+
+    @Test
+    void givenUnsignedBytes_whenEncodedBytes_thenInputBytesAndLabelByte() {
+        assertThat(labeledSamples.get(0).encodedBytes()).isEqualTo(4);
+    }
+
+    @Test
+    void givenSameValues_whenEquals_thenSamplesEqual() {
+        var copy = new CompactLabeledSamples(new byte[]{0, 51, (byte) 255}, 3, new int[]{2}, 3);
+
+        assertThat(copy.get(0))
+            .isEqualTo(labeledSamples.get(0))
+            .hasSameHashCodeAs(labeledSamples.get(0));
+    }
+
+    @Test
+    void givenLabelOutOfClasses_whenCreated_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> new CompactLabeledSamples(new byte[]{0}, 1, new int[]{3}, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenInputsNotMatchingLabels_whenCreated_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> new CompactLabeledSamples(new byte[]{0, 1, 2}, 2, new int[]{0}, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenReusedTarget_whenCopied_thenTargetRowsOverwritten() {
+        var target = new double[]{9, 9, 9, 9, 9, 9, 9, 9};
+
+        labeledSamples.get(1).copyInputs(target, 1);
+        labeledSamples.get(1).copyLabels(target, 4);
+
+        assertThat(target).containsExactly(9, 1 / 255.0, 128 / 255.0, 2 / 255.0, 1, 0, 0, 9);
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+final class ComputeContextTests {
+
+    @Test
+    void givenCheapOperation_whenSplit_thenSingleRangeOnCallingThread() {
+        try (var computeContext = new ComputeContext(4, 1000)) {
+            var ranges = Collections.synchronizedList(new ArrayList<Range>());
+
+            computeContext.split(100, 999, (from, to) -> ranges.add(new Range(from, to)));
+
+            assertThat(ranges).containsExactly(new Range(0, 100, Thread.currentThread()));
+        }
+    }
+
+    @Test
+    void givenExpensiveOperation_whenSplit_thenRangesCoverLengthOnContextThreads() {
+        try (var computeContext = new ComputeContext(4, 1)) {
+            var ranges = Collections.synchronizedList(new ArrayList<Range>());
+            var contexts = Collections.synchronizedList(new ArrayList<ComputeContext>());
+
+            computeContext.split(
+                10,
+                1000,
+                (from, to) -> {
+                    ranges.add(new Range(from, to));
+                    contexts.add(ComputeContext.current());
+                }
+            );
+
+            assertThat(ranges.stream().sorted(Comparator.comparingInt(Range::from)))
+                .extracting(Range::from, Range::to)
+                .containsExactly(
+                    tuple(0, 2),
+                    tuple(2, 5),
+                    tuple(5, 7),
+                    tuple(7, 10)
+                );
+            assertThat(contexts).containsOnly(computeContext);
+        }
+    }
+
+    @Test
+    void givenMultipleThreads_whenReduce_thenRangeResultsCombinedInOrder() {
+        try (var computeContext = new ComputeContext(4, 1)) {
+            assertThat(
+                computeContext.reduce(
+                    10,
+                    Long.MAX_VALUE,
+                    (from, to) -> "[" + from + "," + to + ")",
+                    String::concat
+                )
+            )
+                .isEqualTo("[0,2)[2,5)[5,7)[7,10)");
+        }
+    }
+
+    @Test
+    void givenSingleThread_whenReduce_thenSingleRange() {
+        try (var computeContext = new ComputeContext(1)) {
+            assertThat(
+                computeContext.reduce(
+                    10,
+                    Long.MAX_VALUE,
+                    (from, to) -> from + "," + to,
+                    String::concat
+                )
+            )
+                .isEqualTo("0,10");
+        }
+    }
+
+    @Test
+    void givenCheapOperation_whenReduce_thenSingleRangeOnCallingThread() {
+        try (var computeContext = new ComputeContext(4, 1000)) {
+            var threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+            assertThat(
+                computeContext.reduce(
+                    10,
+                    999,
+                    (from, to) -> {
+                        threads.add(Thread.currentThread());
+                        return from + "," + to;
+                    },
+                    String::concat
+                )
+            )
+                .isEqualTo("0,10");
+            assertThat(threads).containsExactly(Thread.currentThread());
+        }
+    }
+
+    @Test
+    void givenContext_whenInvoke_thenCurrentContextInside() {
+        try (var computeContext = new ComputeContext(2)) {
+            assertThat(computeContext.invoke(ComputeContext::current)).isSameAs(computeContext);
+            assertThat(ComputeContext.current()).isSameAs(ComputeContext.common());
+        }
+    }
+
+    @Test
+    void givenNonPositiveThreads_whenCreated_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> new ComputeContext(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenNeuralNetworkInContext_whenOutputs_thenSameOutputsAsCommonContext() {
+        try (var computeContext = new ComputeContext(3, 1)) {
+            var inputs = new Inputs(
+                Tensor.matrix(50, 30, new Random(1).doubles(50 * 30).toArray())
+            );
+
+            assertThat(neuralNetwork(new NeuralNetworkFactory(computeContext)).outputs(inputs))
+                .isEqualTo(neuralNetwork(new NeuralNetworkFactory()).outputs(inputs));
+        }
+    }
+
+    private NeuralNetwork neuralNetwork(NeuralNetworkFactory factory) {
+        return factory.neuralNetwork(
+            new Random(0),
+            30,
+            2,
+            10,
+            new Sigmoid(),
+            new Softmax()
+        );
+    }
+
+    private record Range(int from, int to, Thread thread) {
+
+        Range(int from, int to) {
+            this(from, to, Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+final class DataParallelCalibrationTests {
+
+    private final Inputs inputs = new Inputs(
+        Tensor.matrix(10, 6, new Random(1).doubles(10 * 6).toArray())
+    );
+    private final Labels labels = new Labels(
+        Tensor.from(new int[]{10, 3}, index -> index[0] % 3 == index[1] ? 1 : 0)
+    );
+
+    @Test
+    void givenSingleThread_whenCalibrated_thenSameNeuralNetworkAsCopyingCalibration() {
+        try (var computeContext = new ComputeContext(1)) {
+            var neuralNetwork = neuralNetwork(computeContext);
+            var dataParallel = neuralNetwork.calibration(CalibrationMode.DATA_PARALLEL);
+            var copying = neuralNetwork.calibration(CalibrationMode.COPYING);
+
+            for (var batch = 0; batch < 3; batch++) {
+                dataParallel.calibrate(
+                    inputs,
+                    labels,
+                    new CategoricalCrossEntropy(),
+                    new LearningRate(0.1)
+                );
+                copying.calibrate(inputs, labels, new CategoricalCrossEntropy(), new LearningRate(0.1));
+            }
+
+            assertThat(dataParallel.neuralNetwork()).isEqualTo(copying.neuralNetwork());
+        }
+    }
+
+    @Test
+    void givenMultipleThreads_whenCalibrated_thenNeuralNetworkCloseToCopyingCalibration() {
+        try (var computeContext = new ComputeContext(4, 1)) {
+            var neuralNetwork = neuralNetwork(computeContext);
+            var dataParallel = neuralNetwork.calibration(CalibrationMode.DATA_PARALLEL);
+            var copying = neuralNetwork.calibration(CalibrationMode.COPYING);
+
+            for (var batch = 0; batch < 3; batch++) {
+                dataParallel.calibrate(
+                    inputs,
+                    labels,
+                    new CategoricalCrossEntropy(),
+                    new LearningRate(0.1)
+                );
+                copying.calibrate(inputs, labels, new CategoricalCrossEntropy(), new LearningRate(0.1));
+            }
+
+            var actual = dataParallel.neuralNetwork().outputs(inputs).tensor();
+            var expected = copying.neuralNetwork().outputs(inputs).tensor();
+            for (var row = 0; row < 10; row++) {
+                for (var column = 0; column < 3; column++) {
+                    assertThat(actual.value(row, column))
+                        .isCloseTo(expected.value(row, column), within(1e-12));
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenMultipleThreads_whenCalibrated_thenOutputsOfWholeBatchReturned() {
+        try (var computeContext = new ComputeContext(4, 1)) {
+            var neuralNetwork = neuralNetwork(computeContext);
+
+            assertThat(
+                neuralNetwork.calibration(CalibrationMode.DATA_PARALLEL)
+                    .calibrate(inputs, labels, new CategoricalCrossEntropy(), new LearningRate(0.1))
+            )
+                .isEqualTo(neuralNetwork.outputs(inputs));
+        }
+    }
+
+    private NeuralNetwork neuralNetwork(ComputeContext computeContext) {
+        return new NeuralNetworkFactory(computeContext)
+                   .neuralNetwork(
+                       new Random(0),
+                       6,
+                       1,
+                       3,
+                       new Sigmoid(),
+                       new Softmax()
+                   );
+    }
+}
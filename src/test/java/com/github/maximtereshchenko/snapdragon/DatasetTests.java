@@ -0,0 +1,122 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DatasetTests {
+
+    private final List<LabeledSample> labeledSamples = labeledSamples();
+
+    @Test
+    void givenMultiplePasses_whenBatchedLabeledSamples_thenSamplesLoadedOnce() {
+        var loads = new AtomicInteger();
+        var dataset = new ValidationDataset(
+            () -> {
+                loads.incrementAndGet();
+                return labeledSamples;
+            },
+            3
+        );
+
+        dataset.batchedLabeledSamples().forEachRemaining(batch -> {});
+        dataset.batchedLabeledSamples().forEachRemaining(batch -> {});
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenLoadedDataset_whenCachedBytes_thenEncodedBytesOfAllSamples() {
+        var dataset = new ValidationDataset(() -> labeledSamples, 3);
+        var cachedBeforeLoad = dataset.cachedBytes();
+
+        dataset.batchedLabeledSamples();
+
+        assertThat(cachedBeforeLoad).isZero();
+        assertThat(dataset.cachedBytes()).isEqualTo(10 * 2 * Double.BYTES);
+    }
+
+    @Test
+    void givenTrainingDataset_whenBatchedLabeledSamples_thenShuffledEveryPass() {
+        var dataset = new TrainingDataset(() -> labeledSamples, 10, new Random(0));
+        var random = new Random(0);
+
+        for (var pass = 0; pass < 3; pass++) {
+            var expected = new ArrayList<>(labeledSamples);
+            Collections.shuffle(expected, random);
+
+            assertThat(dataset.batchedLabeledSamples().next())
+                .isEqualTo(batchedLabeledSample(expected));
+        }
+    }
+
+    @Test
+    void givenPartialLastBatch_whenBatchedLabeledSamples_thenRemainingSamplesBatched() {
+        var batches = new ArrayList<BatchedLabeledSample>();
+
+        new ValidationDataset(() -> labeledSamples, 4)
+            .batchedLabeledSamples()
+            .forEachRemaining(batches::add);
+
+        assertThat(batches)
+            .containsExactly(
+                batchedLabeledSample(labeledSamples.subList(0, 4)),
+                batchedLabeledSample(labeledSamples.subList(4, 8)),
+                batchedLabeledSample(labeledSamples.subList(8, 10))
+            );
+    }
+
+    @Test
+    void givenReusingIterator_whenBatchedLabeledSamples_thenSameBatchesAsNewBuffers() {
+        var dataset = new ValidationDataset(() -> labeledSamples, 3);
+        var expected = dataset.batchedLabeledSamples();
+        var reusing = dataset.reusingBatchedLabeledSamples();
+
+        while (expected.hasNext()) {
+            assertThat(reusing.next()).isEqualTo(expected.next());
+        }
+        assertThat(reusing.hasNext()).isFalse();
+    }
+
+    @Test
+    void givenPrefetchingTrainingDataset_whenBatchedLabeledSamples_thenSameBatchesAsSynchronous() {
+        var prefetching = new TrainingDataset(() -> labeledSamples, 3, new Random(0), 2);
+        var synchronous = new TrainingDataset(() -> labeledSamples, 3, new Random(0));
+
+        for (var pass = 0; pass < 3; pass++) {
+            var expected = new ArrayList<BatchedLabeledSample>();
+            synchronous.batchedLabeledSamples().forEachRemaining(expected::add);
+            var actual = new ArrayList<BatchedLabeledSample>();
+            prefetching.reusingBatchedLabeledSamples().forEachRemaining(actual::add);
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    private BatchedLabeledSample batchedLabeledSample(List<LabeledSample> labeledSamples) {
+        var inputs = new double[labeledSamples.size()];
+        var labels = new double[labeledSamples.size()];
+        for (var i = 0; i < labeledSamples.size(); i++) {
+            inputs[i] = labeledSamples.get(i).inputs()[0];
+            labels[i] = labeledSamples.get(i).labels()[0];
+        }
+        return new BatchedLabeledSample(
+            new Inputs(Tensor.verticalVector(inputs)),
+            new Labels(Tensor.verticalVector(labels))
+        );
+    }
+
+    private List<LabeledSample> labeledSamples() {
+        var labeledSamples = new ArrayList<LabeledSample>();
+        for (var i = 0; i < 10; i++) {
+            labeledSamples.add(new StaticLabeledSample(new double[]{i}, new double[]{-i}));
+        }
+        return labeledSamples;
+    }
+}
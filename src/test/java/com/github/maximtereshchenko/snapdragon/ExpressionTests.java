@@ -0,0 +1,178 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+final class ExpressionTests {
+
+    private static List<Arguments> combinedExpressions() {
+        var first = Tensor.horizontalVector(1, 2, 3).lazy();
+        var second = Tensor.horizontalVector(4, 2, 1).lazy();
+        return List.of(
+            arguments(first.sum(second), Tensor.horizontalVector(5, 4, 4)),
+            arguments(first.difference(second), Tensor.horizontalVector(-3, 0, 2)),
+            arguments(first.product(second), Tensor.horizontalVector(4, 4, 3)),
+            arguments(first.quotient(second), Tensor.horizontalVector(0.25, 1, 3)),
+            arguments(first.maximum(second), Tensor.horizontalVector(4, 2, 3)),
+            arguments(
+                Tensor.matrix(2, 2, 1, 2, 3, 4)
+                    .transposed()
+                    .lazy()
+                    .sum(Tensor.verticalVector(10, 20).lazy().broadcasted(2, 2))
+                    .product(Tensor.horizontalVector(2).lazy().broadcasted(2, 2)),
+                Tensor.matrix(2, 2, 22, 26, 44, 48)
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("combinedExpressions")
+    void givenCombinedExpression_whenEvaluated_thenElementWiseResult(
+        Expression expression,
+        Tensor expected
+    ) {
+        assertThat(expression.evaluated()).isEqualTo(expected);
+    }
+
+    @Test
+    void givenElementWiseChain_whenEvaluated_thenSameAsEagerOperations() {
+        var random = new Random(0);
+        var first = Tensor.matrix(300, 500, random.doubles(300 * 500, -1, 1).toArray());
+        var second = Tensor.matrix(500, 300, random.doubles(500 * 300, 1, 2).toArray())
+                         .transposed();
+        var third = Tensor.horizontalVector(random.doubles(500, -1, 1).toArray());
+        var expected = first.difference(second.product(third.broadcasted(300, 500)))
+                           .quotient(second)
+                           .maximum(Tensor.horizontalVector(-0.5).broadcasted(300, 500));
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            assertThat(
+                computeContext.invoke(() ->
+                                          first.lazy()
+                                              .difference(
+                                                  second.lazy()
+                                                      .product(third.lazy().broadcasted(300, 500))
+                                              )
+                                              .quotient(second.lazy())
+                                              .maximum(
+                                                  Tensor.horizontalVector(-0.5)
+                                                      .lazy()
+                                                      .broadcasted(300, 500)
+                                              )
+                                              .evaluated()
+                )
+            )
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void givenMappedExpression_whenEvaluated_thenOperatorAppliedAfterCombination() {
+        assertThat(
+            Tensor.horizontalVector(1, 2, 3)
+                .lazy()
+                .sum(Tensor.horizontalVector(3, 2, 1).lazy())
+                .map(value -> value * value)
+                .evaluated()
+        )
+            .isEqualTo(Tensor.horizontalVector(16, 16, 16));
+    }
+
+    @Test
+    void givenCombinedExpression_whenBroadcasted_thenSameAsBroadcastedResult() {
+        var expression = Tensor.verticalVector(1, 2)
+                             .lazy()
+                             .product(Tensor.verticalVector(3, 4).lazy());
+
+        assertThat(expression.broadcasted(2, 3).evaluated())
+            .isEqualTo(Tensor.matrix(2, 3, 3, 3, 3, 8, 8, 8));
+    }
+
+    @Test
+    void givenExpressionReadingTarget_whenAssign_thenTargetReplacedElementWise() {
+        var tensor = Tensor.matrix(2, 2, 1, 2, 3, 4);
+
+        tensor.assign(
+            tensor.lazy()
+                .difference(
+                    tensor.lazy().product(Tensor.horizontalVector(0.5).lazy().broadcasted(2, 2))
+                )
+        );
+
+        assertThat(tensor).isEqualTo(Tensor.matrix(2, 2, 0.5, 1, 1.5, 2));
+    }
+
+    @Test
+    void givenTransposedViewOfTarget_whenAssign_thenIllegalArgumentExceptionThrown() {
+        var tensor = Tensor.matrix(2, 2, 1, 2, 3, 4);
+        var expression = tensor.transposed().lazy().sum(tensor.lazy());
+
+        assertThatThrownBy(() -> tensor.assign(expression))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tensor).isEqualTo(Tensor.matrix(2, 2, 1, 2, 3, 4));
+    }
+
+    @Test
+    void givenLargeExpressionInContext_whenAssign_thenTargetUpdatedInPlace() {
+        var random = new Random(0);
+        var tensor = Tensor.matrix(300, 500, random.doubles(300 * 500, -1, 1).toArray());
+        var gradient = Tensor.matrix(300, 500, random.doubles(300 * 500, -1, 1).toArray());
+        var expected = tensor.difference(gradient);
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            computeContext.invoke(() -> {
+                tensor.assign(tensor.lazy().difference(gradient.lazy()));
+                return tensor;
+            });
+        }
+
+        assertThat(tensor).isEqualTo(expected);
+    }
+
+    @Test
+    void givenNonFiniteExpression_whenAssign_thenTargetUnchanged() {
+        var tensor = Tensor.horizontalVector(1, 2, 3);
+        var expression = tensor.lazy().quotient(Tensor.horizontalVector(1, 1, 0).lazy());
+
+        assertThatThrownBy(() -> tensor.assign(expression))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tensor).isEqualTo(Tensor.horizontalVector(1, 2, 3));
+    }
+
+    @Test
+    void givenDifferentShapes_whenCombined_thenIllegalArgumentExceptionThrown() {
+        var first = Tensor.matrix(2, 2, 1, 2, 3, 4).lazy();
+        var second = Tensor.horizontalVector(1, 2).lazy();
+
+        assertThatThrownBy(() -> first.sum(second))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenTransposedTarget_whenAssign_thenIllegalArgumentExceptionThrown() {
+        var tensor = Tensor.matrix(2, 3, 1, 2, 3, 4, 5, 6).transposed();
+        var expression = Tensor.matrix(3, 2, 1, 2, 3, 4, 5, 6).lazy();
+
+        assertThatThrownBy(() -> tensor.assign(expression))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenNonFiniteResult_whenEvaluated_thenIllegalArgumentExceptionThrown() {
+        var expression = Tensor.horizontalVector(1, 2)
+                             .lazy()
+                             .quotient(Tensor.horizontalVector(1, 0).lazy());
+
+        assertThatThrownBy(expression::evaluated)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
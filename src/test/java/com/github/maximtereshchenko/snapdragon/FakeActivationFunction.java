@@ -1,6 +1,10 @@
 package com.github.maximtereshchenko.snapdragon;
 
-record FakeActivationFunction() implements ActivationFunction {
+record FakeActivationFunction(boolean fusesWithCrossEntropy) implements ActivationFunction {
+
+    FakeActivationFunction() {
+        this(false);
+    }
 
     @Override
     public Tensor apply(Tensor tensor) {
@@ -20,13 +20,18 @@ final class FakeNeuralNetwork implements NeuralNetwork {
     }
 
     @Override
-    public NeuralNetwork calibrated(
+    public long flops(int samples) {
+        return samples;
+    }
+
+    @Override
+    public CalibrationStep calibrationStep(
         Inputs inputs,
         Labels labels,
         LossFunction lossFunction,
         LearningRate learningRate
     ) {
-        return this;
+        return new CalibrationStep(this, outputs(inputs));
     }
 
     @Override
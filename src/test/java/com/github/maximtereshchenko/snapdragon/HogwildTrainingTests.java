@@ -0,0 +1,91 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class HogwildTrainingTests {
+
+    private final List<LabeledSample> labeledSamples = labeledSamples();
+
+    @Test
+    void givenSingleThread_whenCompletedTraining_thenSameAsInPlaceTraining() {
+        try (var computeContext = new ComputeContext(1)) {
+            assertThat(completedTraining(computeContext, CalibrationMode.HOGWILD))
+                .isEqualTo(completedTraining(computeContext, CalibrationMode.IN_PLACE));
+        }
+    }
+
+    @Test
+    void givenSingleThread_whenCompletedTraining_thenLossDecreases() {
+        try (var computeContext = new ComputeContext(1)) {
+            var epochStatistics = completedTraining(computeContext, CalibrationMode.HOGWILD)
+                                      .statistics()
+                                      .epochStatistics();
+
+            assertThat(epochStatistics.getLast().training().averageLoss())
+                .isLessThan(epochStatistics.getFirst().training().averageLoss());
+        }
+    }
+
+    @Test
+    void givenMultipleThreads_whenCompletedTraining_thenEverySampleCalibrated() {
+        try (var computeContext = new ComputeContext(4, 1)) {
+            assertThat(
+                completedTraining(computeContext, CalibrationMode.HOGWILD)
+                    .statistics()
+                    .epochStatistics()
+            )
+                .hasSize(3)
+                .allSatisfy(statistics -> {
+                    assertThat(statistics.training().losses().count())
+                        .isEqualTo(labeledSamples.size());
+                    assertThat(statistics.training().averageLoss()).isFinite();
+                    assertThat(statistics.validation().averageLoss()).isFinite();
+                });
+        }
+    }
+
+    private CompletedTraining completedTraining(
+        ComputeContext computeContext,
+        CalibrationMode calibrationMode
+    ) {
+        return new Training(
+            new TrainingDataset(() -> labeledSamples, 4, new Random(0)),
+            new ValidationDataset(() -> labeledSamples, 4),
+            new CategoricalCrossEntropy(),
+            new NeuralNetworkFactory(computeContext)
+                .neuralNetwork(
+                    new Random(0),
+                    4,
+                    1,
+                    2,
+                    new Sigmoid(),
+                    new Softmax()
+                ),
+            new LearningRate(0.5),
+            new Patience(3),
+            3,
+            computeContext,
+            calibrationMode
+        )
+                   .completedTraining();
+    }
+
+    private List<LabeledSample> labeledSamples() {
+        var random = new Random(1);
+        var labeledSamples = new ArrayList<LabeledSample>();
+        for (var i = 0; i < 32; i++) {
+            var inputs = random.doubles(4).toArray();
+            var positive = inputs[0] + inputs[1] > inputs[2] + inputs[3];
+            labeledSamples.add(
+                new StaticLabeledSample(inputs, new double[]{positive ? 1 : 0, positive ? 0 : 1})
+            );
+        }
+        return labeledSamples;
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+final class IdxFileTests {
+
+    private static List<Arguments> dataTypes() {
+        return List.of(
+            arguments(0x08, 1, writer((buffer, value) -> buffer.put((byte) (value + 200)))),
+            arguments(0x09, 1, writer((buffer, value) -> buffer.put((byte) -value))),
+            arguments(0x0B, 2, writer((buffer, value) -> buffer.putShort((short) -value))),
+            arguments(0x0C, 4, writer((buffer, value) -> buffer.putInt(-value))),
+            arguments(0x0D, 4, writer((buffer, value) -> buffer.putFloat(-value))),
+            arguments(0x0E, 8, writer((buffer, value) -> buffer.putDouble(-value)))
+        );
+    }
+
+    private static BiConsumer<ByteBuffer, Integer> writer(BiConsumer<ByteBuffer, Integer> writer) {
+        return writer;
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataTypes")
+    void givenDataType_whenItems_thenDecodedValues(
+        int dataType,
+        int bytes,
+        BiConsumer<ByteBuffer, Integer> writer
+    ) {
+        var buffer = header(dataType, 6 * bytes, 3, 2);
+        for (var value = 1; value <= 6; value++) {
+            writer.accept(buffer, value);
+        }
+
+        var idxFile = IdxFile.from(buffer.flip());
+
+        var sign = dataType == 0x08 ? 1 : -1;
+        var shift = dataType == 0x08 ? 200 : 0;
+        assertThat(idxFile.items(value -> value * sign - shift))
+            .isDeepEqualTo(new double[][]{{1, 2}, {3, 4}, {5, 6}});
+    }
+
+    @Test
+    void givenManyItems_whenItemsInParallel_thenItemsInOrder() {
+        var buffer = header(0x08, 1000 * 4, 1000, 2, 2);
+        for (var value = 0; value < 1000 * 4; value++) {
+            buffer.put((byte) value);
+        }
+        var idxFile = IdxFile.from(buffer.flip());
+
+        try (var computeContext = new ComputeContext(4, 1)) {
+            var items = computeContext.invoke(() -> idxFile.items(value -> value));
+
+            assertThat(items).hasNumberOfRows(1000);
+            for (var item = 0; item < items.length; item++) {
+                for (var i = 0; i < 4; i++) {
+                    assertThat(items[item][i]).isEqualTo((item * 4 + i) & 0xFF);
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenFile_whenMapped_thenDecodedValues(@TempDir Path path) throws IOException {
+        var buffer = header(0x08, 2, 2);
+        buffer.put((byte) 255).put((byte) 7);
+        var file = Files.write(path.resolve("file"), buffer.array());
+
+        var idxFile = IdxFile.mapped(file);
+
+        assertThat(idxFile.items()).isEqualTo(2);
+        assertThat(idxFile.itemLength()).isEqualTo(1);
+        assertThat(idxFile.value(0)).isEqualTo(255);
+        assertThat(idxFile.value(1)).isEqualTo(7);
+    }
+
+    @Test
+    void givenNonZeroMagicNumber_whenFrom_thenIllegalStateExceptionThrown() {
+        var buffer = header(0x08, 1, 1).put(0, (byte) 1).put((byte) 0).flip();
+
+        assertThatThrownBy(() -> IdxFile.from(buffer))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenUnknownDataType_whenFrom_thenIllegalStateExceptionThrown() {
+        var buffer = header(0x0A, 1, 1).put((byte) 0).flip();
+
+        assertThatThrownBy(() -> IdxFile.from(buffer))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenTruncatedData_whenFrom_thenIllegalStateExceptionThrown() {
+        var buffer = header(0x0C, 4, 2).putInt(1).flip();
+
+        assertThatThrownBy(() -> IdxFile.from(buffer))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ByteBuffer header(int dataType, int dataBytes, int... dimensions) {
+        var buffer = ByteBuffer.allocate(4 + dimensions.length * 4 + dataBytes);
+        buffer.put((byte) 0);
+        buffer.put((byte) 0);
+        buffer.put((byte) dataType);
+        buffer.put((byte) dimensions.length);
+        for (var dimension : dimensions) {
+            buffer.putInt(dimension);
+        }
+        return buffer;
+    }
+}
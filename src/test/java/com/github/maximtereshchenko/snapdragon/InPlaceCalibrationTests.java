@@ -0,0 +1,78 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class InPlaceCalibrationTests extends BaseNeuralNetworkTest {
+
+    @Test
+    void givenInPlaceCalibration_whenCalibrated_thenSameNeuralNetworkAsCopyingCalibration() {
+        var neuralNetwork = random(5, 2, 3);
+        var inPlace = neuralNetwork.calibration(CalibrationMode.IN_PLACE);
+        var copying = neuralNetwork.calibration(CalibrationMode.COPYING);
+        var random = new Random(1);
+
+        for (var batch = 0; batch < 3; batch++) {
+            var inputs = new Inputs(Tensor.matrix(4, 5, random.doubles(4 * 5).toArray()));
+            var labels = new Labels(Tensor.matrix(4, 3, new double[4 * 3]));
+            inPlace.calibrate(inputs, labels, new FakeLossFunction(), new LearningRate(0.1));
+            copying.calibrate(inputs, labels, new FakeLossFunction(), new LearningRate(0.1));
+        }
+
+        assertThat(inPlace.neuralNetwork()).isEqualTo(copying.neuralNetwork());
+    }
+
+    @Test
+    void givenInPlaceCalibration_whenCalibrated_thenOriginalNeuralNetworkUnchanged() {
+        var neuralNetwork = random(2, 1, 2);
+        var inPlace = neuralNetwork.calibration(CalibrationMode.IN_PLACE);
+
+        inPlace.calibrate(
+            new Inputs(Tensor.horizontalVector(0.4, 0.5)),
+            new Labels(Tensor.horizontalVector(0, 0)),
+            new FakeLossFunction(),
+            new LearningRate(0.5)
+        );
+
+        assertThat(neuralNetwork)
+            .isEqualTo(random(2, 1, 2))
+            .isNotEqualTo(inPlace.neuralNetwork());
+    }
+
+    @Test
+    void givenSnapshot_whenCalibratedFurther_thenSnapshotUnchanged() {
+        var inPlace = random(2, 1, 2).calibration(CalibrationMode.IN_PLACE);
+        var snapshot = inPlace.neuralNetwork();
+
+        inPlace.calibrate(
+            new Inputs(Tensor.horizontalVector(0.4, 0.5)),
+            new Labels(Tensor.horizontalVector(0, 0)),
+            new FakeLossFunction(),
+            new LearningRate(0.5)
+        );
+
+        assertThat(snapshot)
+            .isEqualTo(random(2, 1, 2))
+            .isNotEqualTo(inPlace.neuralNetwork());
+    }
+
+    @Test
+    void givenInPlaceCalibration_whenCalibrated_thenOutputsBeforeCalibrationReturned() {
+        var neuralNetwork = random(2, 1, 2);
+        var inputs = new Inputs(Tensor.horizontalVector(0.4, 0.5));
+
+        assertThat(
+            neuralNetwork.calibration(CalibrationMode.IN_PLACE)
+                .calibrate(
+                    inputs,
+                    new Labels(Tensor.horizontalVector(0, 0)),
+                    new FakeLossFunction(),
+                    new LearningRate(0.5)
+                )
+        )
+            .isEqualTo(neuralNetwork.outputs(inputs));
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+final class KernelsTests {
+
+    private static List<Arguments> combinations() {
+        var arguments = new ArrayList<Arguments>();
+        for (var kernels : List.of(new ScalarKernels(), new VectorKernels())) {
+            for (var arithmetic : Arithmetic.values()) {
+                for (var length : List.of(1, 3, 8, 17)) {
+                    arguments.add(arguments(kernels, arithmetic, length));
+                }
+            }
+        }
+        return arguments;
+    }
+
+    private static List<Arguments> reductions() {
+        var arguments = new ArrayList<Arguments>();
+        for (var kernels : kernels()) {
+            for (var arithmetic : List.of(Arithmetic.SUM, Arithmetic.MAXIMUM)) {
+                for (var length : List.of(1, 3, 8, 17)) {
+                    arguments.add(arguments(kernels, arithmetic, length));
+                }
+            }
+        }
+        return arguments;
+    }
+
+    private static List<Kernels> kernels() {
+        return List.of(new ScalarKernels(), new VectorKernels());
+    }
+
+    @ParameterizedTest
+    @MethodSource("combinations")
+    void givenArrays_whenCombine_thenSameAsScalarArithmetic(
+        Kernels kernels,
+        Arithmetic arithmetic,
+        int length
+    ) {
+        var random = new Random(length);
+        var first = random.doubles(length, -1, 1).toArray();
+        var second = random.doubles(length, -1, 1).toArray();
+        var result = new double[length];
+
+        kernels.combine(arithmetic, first, second, result);
+
+        assertThat(result).containsExactly(expected(first, second, arithmetic));
+    }
+
+    @ParameterizedTest
+    @MethodSource("combinations")
+    void givenArrayAndScalar_whenCombine_thenSameAsScalarArithmetic(
+        Kernels kernels,
+        Arithmetic arithmetic,
+        int length
+    ) {
+        var random = new Random(length);
+        var first = random.doubles(length, -1, 1).toArray();
+        var second = new double[length];
+        Arrays.fill(second, 0.5);
+        var result = new double[length];
+
+        kernels.combine(arithmetic, first, 0.5, result);
+
+        assertThat(result).containsExactly(expected(first, second, arithmetic));
+    }
+
+    @ParameterizedTest
+    @MethodSource("combinations")
+    void givenScalarAndArray_whenCombine_thenSameAsScalarArithmetic(
+        Kernels kernels,
+        Arithmetic arithmetic,
+        int length
+    ) {
+        var random = new Random(length);
+        var first = new double[length];
+        Arrays.fill(first, 0.5);
+        var second = random.doubles(length, -1, 1).toArray();
+        var result = new double[length];
+
+        kernels.combine(arithmetic, 0.5, second, result);
+
+        assertThat(result).containsExactly(expected(first, second, arithmetic));
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void givenPackedPanel_whenTile_thenSequentialProductSumsAccumulated(Kernels kernels) {
+        var random = new Random(0);
+        var columns = kernels.tileColumns();
+        var depth = 7;
+        var left = random.doubles(Kernels.TILE_ROWS * depth).toArray();
+        var packed = random.doubles(depth * columns).toArray();
+        var result = random.doubles(Kernels.TILE_ROWS * columns).toArray();
+        var expected = result.clone();
+        for (var row = 0; row < Kernels.TILE_ROWS; row++) {
+            for (var column = 0; column < columns; column++) {
+                var sum = expected[row * columns + column];
+                for (var k = 0; k < depth; k++) {
+                    sum += left[row * depth + k] * packed[k * columns + column];
+                }
+                expected[row * columns + column] = sum;
+            }
+        }
+
+        kernels.tile(left, 0, depth, packed, 0, depth, result, 0, columns);
+
+        assertThat(result).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("reductions")
+    void givenRange_whenReduce_thenSameAsSequentialArithmetic(
+        Kernels kernels,
+        Arithmetic arithmetic,
+        int length
+    ) {
+        var values = new Random(length).doubles(length + 2, -1, 1).toArray();
+        var expected = values[1];
+        for (var i = 2; i <= length; i++) {
+            expected = arithmetic.applyAsDouble(expected, values[i]);
+        }
+
+        assertThat(kernels.reduce(arithmetic, values, 1, length + 1))
+            .isCloseTo(expected, offset(1e-12));
+    }
+
+    @ParameterizedTest
+    @MethodSource("reductions")
+    void givenRanges_whenAccumulate_thenSameAsScalarArithmetic(
+        Kernels kernels,
+        Arithmetic arithmetic,
+        int length
+    ) {
+        var random = new Random(length);
+        var source = random.doubles(length + 3, -1, 1).toArray();
+        var target = random.doubles(length + 1, -1, 1).toArray();
+        var expected = target.clone();
+        for (var i = 0; i < length; i++) {
+            expected[i + 1] = arithmetic.applyAsDouble(expected[i + 1], source[i + 3]);
+        }
+
+        kernels.accumulate(arithmetic, source, 3, target, 1, length);
+
+        assertThat(target).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("combinations")
+    void givenRangeAndScalar_whenAccumulate_thenSameAsScalarArithmetic(
+        Kernels kernels,
+        Arithmetic arithmetic,
+        int length
+    ) {
+        var target = new Random(length).doubles(length + 2, -1, 1).toArray();
+        var expected = target.clone();
+        for (var i = 1; i <= length; i++) {
+            expected[i] = arithmetic.applyAsDouble(expected[i], 0.5);
+        }
+
+        kernels.accumulate(arithmetic, 0.5, target, 1, length);
+
+        assertThat(target).containsExactly(expected);
+    }
+
+    private double[] expected(double[] first, double[] second, Arithmetic arithmetic) {
+        var expected = new double[first.length];
+        for (var i = 0; i < expected.length; i++) {
+            expected[i] = arithmetic.applyAsDouble(first[i], second[i]);
+        }
+        return expected;
+    }
+}
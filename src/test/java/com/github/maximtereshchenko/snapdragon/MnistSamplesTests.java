@@ -11,6 +11,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 final class MnistSamplesTests {
 
@@ -65,6 +66,56 @@ final class MnistSamplesTests {
             );
     }
 
+    @Test
+    void givenFloatInputs_thenInputsNotScaled(@TempDir Path path) throws IOException {
+        var inputs = Files.write(path.resolve("inputs"), floats(List.of(1, 2), 0.25f, -1.5f));
+        var labels = Files.write(path.resolve("labels"), bytes(List.of(1), 3));
+
+        assertThat(batchedLabeledSamples(inputs, labels).next().inputs())
+            .isEqualTo(new Inputs(Tensor.horizontalVector(0.25, -1.5)));
+    }
+
+    @Test
+    void givenShortInputs_thenInputsScaledByShortRange(@TempDir Path path) throws IOException {
+        var inputs = Files.write(path.resolve("inputs"), shorts(List.of(1, 2), -32_768, 16_384));
+        var labels = Files.write(path.resolve("labels"), bytes(List.of(1), 3));
+
+        assertThat(batchedLabeledSamples(inputs, labels).next().inputs())
+            .isEqualTo(new Inputs(Tensor.horizontalVector(-1, 0.5)));
+    }
+
+    @Test
+    void givenLoadedSamples_thenEncodedBytesOfSourceCached(@TempDir Path path)
+        throws IOException {
+        var floatInputs = Files.write(path.resolve("floats"), floats(List.of(2, 2), 1, 2, 3, 4));
+        var byteInputs = Files.write(path.resolve("bytes"), bytes(List.of(2, 2), 1, 2, 3, 4));
+        var labels = Files.write(path.resolve("labels"), bytes(List.of(2), 3, 4));
+
+        assertThat(cachedBytes(floatInputs, labels)).isEqualTo(2 * (2 * Float.BYTES + 1));
+        assertThat(cachedBytes(byteInputs, labels)).isEqualTo(2 * (2 + 1));
+    }
+
+    @Test
+    void givenLabelOutOfClasses_thenIllegalArgumentExceptionThrown(@TempDir Path path)
+        throws IOException {
+        var inputs = Files.write(path.resolve("inputs"), floats(List.of(1, 1), 0.5f));
+        var labels = Files.write(path.resolve("labels"), bytes(List.of(1), 10));
+
+        assertThatThrownBy(() -> batchedLabeledSamples(inputs, labels))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long cachedBytes(Path inputs, Path labels) {
+        var dataset = new MnistSamples<>(
+            inputs,
+            labels,
+            labeledSamples -> new ValidationDataset(labeledSamples, Integer.MAX_VALUE)
+        )
+                          .dataset();
+        dataset.batchedLabeledSamples();
+        return dataset.cachedBytes();
+    }
+
     private Iterator<BatchedLabeledSample> batchedLabeledSamples(Path inputs, Path labels) {
         return new MnistSamples<>(
             inputs,
@@ -76,15 +127,36 @@ final class MnistSamplesTests {
     }
 
     private byte[] bytes(List<Integer> shape, int... data) {
-        var byteBuffer = ByteBuffer.allocate(4 + shape.size() * 4 + data.length);
-        byteBuffer.put((byte) 0);
-        byteBuffer.put((byte) 0);
-        byteBuffer.put((byte) 8);
-        byteBuffer.put((byte) shape.size());
-        shape.forEach(byteBuffer::putInt);
+        var byteBuffer = header(0x08, shape, data.length);
         for (var datum : data) {
             byteBuffer.put((byte) datum);
         }
         return byteBuffer.array();
     }
-}
\ No newline at end of file
+
+    private byte[] shorts(List<Integer> shape, int... data) {
+        var byteBuffer = header(0x0B, shape, data.length * Short.BYTES);
+        for (var datum : data) {
+            byteBuffer.putShort((short) datum);
+        }
+        return byteBuffer.array();
+    }
+
+    private byte[] floats(List<Integer> shape, float... data) {
+        var byteBuffer = header(0x0D, shape, data.length * Float.BYTES);
+        for (var datum : data) {
+            byteBuffer.putFloat(datum);
+        }
+        return byteBuffer.array();
+    }
+
+    private ByteBuffer header(int dataType, List<Integer> shape, int dataBytes) {
+        var byteBuffer = ByteBuffer.allocate(4 + shape.size() * 4 + dataBytes);
+        byteBuffer.put((byte) 0);
+        byteBuffer.put((byte) 0);
+        byteBuffer.put((byte) dataType);
+        byteBuffer.put((byte) shape.size());
+        shape.forEach(byteBuffer::putInt);
+        return byteBuffer;
+    }
+}
@@ -329,4 +329,31 @@ final class NeuralNetworkCalibrationTests extends BaseNeuralNetworkTest {
                 )
             );
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenNeuralNetwork_whenCalibrationStep_thenOutputsBeforeCalibrationReturned() {
+        var neuralNetwork = random(3, 1, 2);
+        var inputs = new Inputs(Tensor.matrix(2, 3, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6));
+        var labels = new Labels(Tensor.matrix(2, 2, 0, 1, 1, 0));
+
+        var calibrationStep = neuralNetwork.calibrationStep(
+            inputs,
+            labels,
+            new FakeLossFunction(),
+            new LearningRate(0.1)
+        );
+
+        assertThat(calibrationStep)
+            .isEqualTo(
+                new CalibrationStep(
+                    neuralNetwork.calibrated(
+                        inputs,
+                        labels,
+                        new FakeLossFunction(),
+                        new LearningRate(0.1)
+                    ),
+                    neuralNetwork.outputs(inputs)
+                )
+            );
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+final class OutputLayerTests {
+
+    private final LayerIndex index = new LayerIndex(1);
+
+    @Test
+    void givenSoftmaxAndCategoricalCrossEntropy_whenDeltas_thenOutputsMinusLabels() {
+        var outputs = Tensor.matrix(2, 3, 0.2, 0.5, 0.3, 0.1, 0.1, 0.8);
+
+        assertThat(
+            outputLayer(new Softmax())
+                .deltas(
+                    new LayerMap<>(index, new Outputs(outputs)),
+                    new CategoricalCrossEntropy(),
+                    new Labels(Tensor.matrix(2, 3, 0, 1, 0, 0, 0, 1))
+                )
+        )
+            .isEqualTo(
+                new Deltas(
+                    Tensor.matrix(2, 3, 0.2, 0.5 - 1, 0.3, 0.1, 0.1, 0.8 - 1)
+                )
+            );
+    }
+
+    @Test
+    void givenSoftmaxAndCategoricalCrossEntropy_whenDeltas_thenCloseToJacobianProduct() {
+        var random = new Random(0);
+        var outputs = new Softmax().apply(Tensor.matrix(4, 5, random.doubles(4 * 5).toArray()));
+        var labels = Tensor.from(new int[]{4, 5}, index -> index[1] == index[0] ? 1 : 0);
+
+        var deltas = outputLayer(new Softmax())
+                         .deltas(
+                             new LayerMap<>(index, new Outputs(outputs)),
+                             new CategoricalCrossEntropy(),
+                             new Labels(labels)
+                         )
+                         .tensor();
+
+        var expected = new Softmax()
+                           .deltas(
+                               outputs,
+                               new CategoricalCrossEntropy().derivative(outputs, labels)
+                           );
+        for (var row = 0; row < 4; row++) {
+            for (var column = 0; column < 5; column++) {
+                assertThat(deltas.value(row, column))
+                    .isCloseTo(expected.value(row, column), within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void givenOtherActivationFunction_whenDeltas_thenActivationFunctionDeltas() {
+        var outputs = Tensor.horizontalVector(0.2, 0.8);
+
+        assertThat(
+            outputLayer(new FakeActivationFunction())
+                .deltas(
+                    new LayerMap<>(index, new Outputs(outputs)),
+                    new FakeLossFunction(),
+                    new Labels(Tensor.horizontalVector(0, 1))
+                )
+        )
+            .isEqualTo(new Deltas(outputs));
+    }
+
+    private OutputLayer outputLayer(ActivationFunction activationFunction) {
+        return new OutputLayer(
+            index,
+            new Biases(Tensor.horizontalVector(0, 0)),
+            activationFunction
+        );
+    }
+}
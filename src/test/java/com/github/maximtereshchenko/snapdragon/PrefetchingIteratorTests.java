@@ -0,0 +1,128 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class PrefetchingIteratorTests {
+
+    private final List<BatchedLabeledSample> batchedLabeledSamples = batchedLabeledSamples();
+
+    @Test
+    void givenSource_whenIterated_thenSameBatchesInOrder() {
+        var actual = new ArrayList<BatchedLabeledSample>();
+
+        try (var iterator = new PrefetchingIterator(batchedLabeledSamples.iterator(), 2)) {
+            iterator.forEachRemaining(actual::add);
+        }
+
+        assertThat(actual).isEqualTo(batchedLabeledSamples);
+    }
+
+    @Test
+    void givenExhaustedIterator_whenNext_thenNoSuchElementExceptionThrown() {
+        try (var iterator = new PrefetchingIterator(List.<BatchedLabeledSample>of().iterator(), 1)) {
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void givenFailingSource_whenIterated_thenFailurePropagated() {
+        var exception = new IllegalStateException();
+        var source = new Iterator<BatchedLabeledSample>() {
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public BatchedLabeledSample next() {
+                throw exception;
+            }
+        };
+
+        try (var iterator = new PrefetchingIterator(source, 1)) {
+            assertThatThrownBy(iterator::hasNext).isSameAs(exception);
+        }
+    }
+
+    @Test
+    void givenSourceThrowingError_whenIterated_thenErrorPropagated() {
+        var error = new AssertionError();
+        var source = new Iterator<BatchedLabeledSample>() {
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public BatchedLabeledSample next() {
+                throw error;
+            }
+        };
+
+        try (var iterator = new PrefetchingIterator(source, 1)) {
+            assertThatThrownBy(iterator::hasNext).isSameAs(error);
+        }
+    }
+
+    @Test
+    void givenSlowSource_whenIterated_thenStallsMeasured() {
+        var source = new Iterator<BatchedLabeledSample>() {
+
+            private final Iterator<BatchedLabeledSample> iterator =
+                batchedLabeledSamples.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BatchedLabeledSample next() {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return iterator.next();
+            }
+        };
+
+        try (var iterator = new PrefetchingIterator(source, 1)) {
+            iterator.forEachRemaining(batchedLabeledSample -> {});
+
+            assertThat(iterator.statistics().batches()).isEqualTo(batchedLabeledSamples.size());
+            assertThat(iterator.statistics().stalls()).isPositive();
+            assertThat(iterator.statistics().stallTime()).isPositive();
+        }
+    }
+
+    @Test
+    void givenNonPositiveCapacity_whenCreated_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> new PrefetchingIterator(batchedLabeledSamples.iterator(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<BatchedLabeledSample> batchedLabeledSamples() {
+        var batchedLabeledSamples = new ArrayList<BatchedLabeledSample>();
+        for (var i = 0; i < 5; i++) {
+            batchedLabeledSamples.add(
+                new BatchedLabeledSample(
+                    new Inputs(Tensor.verticalVector(i)),
+                    new Labels(Tensor.verticalVector(-i))
+                )
+            );
+        }
+        return batchedLabeledSamples;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+final class RunningStatisticsTests {
+
+    @Test
+    void givenValues_whenAdded_thenSummaryStatistics() {
+        var runningStatistics = RunningStatistics.of(2, 4, 4, 4, 5, 5, 7, 9);
+
+        assertThat(runningStatistics.count()).isEqualTo(8);
+        assertThat(runningStatistics.sum()).isEqualTo(40);
+        assertThat(runningStatistics.mean()).isEqualTo(5);
+        assertThat(runningStatistics.variance()).isCloseTo(4, offset(1e-12));
+        assertThat(runningStatistics.min()).isEqualTo(2);
+        assertThat(runningStatistics.max()).isEqualTo(9);
+    }
+
+    @Test
+    void givenNoValues_whenMean_thenZero() {
+        var runningStatistics = new RunningStatistics();
+
+        assertThat(runningStatistics.count()).isZero();
+        assertThat(runningStatistics.mean()).isZero();
+        assertThat(runningStatistics.variance()).isZero();
+    }
+
+    @Test
+    void givenPartitions_whenCombined_thenSameAsSequential() {
+        var expected = RunningStatistics.of(0.3, 1.7, -2.5, 8.25, 0.1, 4);
+
+        var combined = RunningStatistics.of(0.3, 1.7)
+                           .combined(new RunningStatistics())
+                           .combined(RunningStatistics.of(-2.5, 8.25, 0.1, 4));
+
+        assertThat(combined.count()).isEqualTo(expected.count());
+        assertThat(combined.mean()).isCloseTo(expected.mean(), offset(1e-12));
+        assertThat(combined.variance()).isCloseTo(expected.variance(), offset(1e-12));
+        assertThat(combined.min()).isEqualTo(expected.min());
+        assertThat(combined.max()).isEqualTo(expected.max());
+    }
+
+    @Test
+    void givenHistogram_whenAdded_thenValuesCountedInClampedBins() {
+        var first = new RunningStatistics(0, 1, 4);
+        first.add(0.1);
+        first.add(0.3);
+        first.add(-5);
+        var second = new RunningStatistics(0, 1, 4);
+        second.add(0.9);
+        second.add(1);
+
+        assertThat(first.combined(second).histogram()).containsExactly(2, 1, 0, 2);
+    }
+
+    @Test
+    void givenDifferentHistograms_whenCombined_thenIllegalArgumentExceptionThrown() {
+        var runningStatistics = new RunningStatistics(0, 1, 4);
+        var other = new RunningStatistics(0, 2, 4);
+
+        assertThatThrownBy(() -> runningStatistics.combined(other))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenEmptyHistogramRange_whenCreated_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> new RunningStatistics(1, 1, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -94,4 +94,21 @@ final class SoftmaxTests {
                 )
             );
     }
+
+    @Test
+    void givenOffsetRows_whenDeltasInPlace_thenOnlyRangeReplacedWithDeltas() {
+        var errorSignals = new double[]{1, 10, 23, 1, 2};
+        var outputs = new double[]{0.5, 0.25, 0.125, 0.625, 0.5};
+
+        activationFunction.deltasInPlace(errorSignals, outputs, 1, 4);
+
+        assertThat(errorSignals)
+            .containsExactly(
+                1,
+                10 * 0.25 * (1 - 0.25) + 23 * 0.125 * (0 - 0.25) + 1 * 0.625 * (0 - 0.25),
+                10 * 0.25 * (0 - 0.125) + 23 * 0.125 * (1 - 0.125) + 1 * 0.625 * (0 - 0.125),
+                10 * 0.25 * (0 - 0.625) + 23 * 0.125 * (0 - 0.625) + 1 * 0.625 * (1 - 0.625),
+                2
+            );
+    }
 }
\ No newline at end of file
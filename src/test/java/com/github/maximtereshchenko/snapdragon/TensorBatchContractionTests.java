@@ -1,9 +1,11 @@
 package com.github.maximtereshchenko.snapdragon;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +47,15 @@ final class TensorBatchContractionTests {
                     4 * 7, 4 * 8
                 )
             ),
+            arguments(
+                Tensor.matrix(2, 2, 1, 2, 3, 4),
+                Tensor.from(new int[]{2, 2, 2}, 5, 6, 7, 8, 9, 10, 11, 12),
+                Tensor.matrix(
+                    2, 2,
+                    1 * 5 + 2 * 7, 1 * 6 + 2 * 8,
+                    3 * 9 + 4 * 11, 3 * 10 + 4 * 12
+                )
+            ),
             arguments(
                 Tensor.from(
                     new int[]{2, 2, 2, 3},
@@ -151,4 +162,42 @@ final class TensorBatchContractionTests {
         assertThatThrownBy(() -> first.batchContracted(second))
             .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    void givenLargeBatchedMatrices_whenBatchContracted_thenMatrixProductPerBatch() {
+        var random = new Random(0);
+        var first = Tensor.from(
+            new int[]{3, 70, 300},
+            random.doubles(3 * 70 * 300, -1, 1).toArray()
+        );
+        var second = Tensor.from(
+            new int[]{3, 300, 530},
+            random.doubles(3 * 300 * 530, -1, 1).toArray()
+        );
+        var expected = Tensor.from(
+            new int[]{3, 70, 530},
+            index -> {
+                var sum = 0.0;
+                for (var k = 0; k < 300; k++) {
+                    sum += first.value(index[0], index[1], k) * second.value(index[0], k, index[2]);
+                }
+                return sum;
+            }
+        );
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            assertThat(computeContext.invoke(() -> first.batchContracted(second)))
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void givenBroadcastedMatrix_whenBatchContracted_thenSameAsMaterializedMatrix() {
+        var first = Tensor.from(new int[]{2, 1, 2}, 1, 2, 3, 4);
+        var second = Tensor.from(new int[]{1, 2, 2}, 5, 6, 7, 8).broadcasted(2, 2, 2);
+
+        assertThat(first.batchContracted(second))
+            .isEqualTo(first.batchContracted(second.copy()))
+            .isEqualTo(Tensor.from(new int[]{2, 1, 2}, 19, 22, 43, 50));
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -93,6 +94,15 @@ final class TensorContractionTests {
         );
     }
 
+    private static List<Arguments> matrixDimensions() {
+        return List.of(
+            arguments(1, 1, 1),
+            arguments(4, 4, 4),
+            arguments(5, 7, 9),
+            arguments(67, 300, 530)
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("contractedTensors")
     void givenCompatibleTensors_whenContracted_thenContractedTensor(
@@ -112,4 +122,32 @@ final class TensorContractionTests {
         assertThatThrownBy(() -> first.contracted(second))
             .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("matrixDimensions")
+    void givenLargeMatrices_whenContracted_thenSequentialProductSums(
+        int rows,
+        int shared,
+        int columns
+    ) {
+        var random = new Random(0);
+        var left = random.doubles((long) rows * shared).toArray();
+        var right = random.doubles((long) shared * columns).toArray();
+        var expected = new double[rows * columns];
+        for (var row = 0; row < rows; row++) {
+            for (var column = 0; column < columns; column++) {
+                var sum = 0.0;
+                for (var k = 0; k < shared; k++) {
+                    sum += left[row * shared + k] * right[k * columns + column];
+                }
+                expected[row * columns + column] = sum;
+            }
+        }
+
+        assertThat(
+            Tensor.matrix(rows, shared, left)
+                .contracted(Tensor.matrix(shared, columns, right))
+        )
+            .isEqualTo(Tensor.matrix(rows, columns, expected));
+    }
+}
@@ -1,11 +1,14 @@
 package com.github.maximtereshchenko.snapdragon;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 final class TensorCreationTests {
@@ -20,7 +23,9 @@ final class TensorCreationTests {
             () -> Tensor.horizontalVector(Double.NaN),
             () -> Tensor.verticalVector(Double.POSITIVE_INFINITY),
             () -> Tensor.matrix(1, 1, Double.NEGATIVE_INFINITY),
-            () -> Tensor.from(new int[]{1, 1}, index -> Double.NaN)
+            () -> Tensor.from(new int[]{1, 1}, index -> Double.NaN),
+            () -> Tensor.wrapped(new int[]{2, 2}, new double[3]),
+            () -> Tensor.wrapped(new int[]{1, 1}, new double[]{Double.NaN})
         );
     }
 
@@ -31,4 +36,32 @@ final class TensorCreationTests {
     ) {
         assertThatThrownBy(supplier::get).isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenValues_whenWrapped_thenSameAsCopiedValues() {
+        assertThat(Tensor.wrapped(new int[]{2, 2}, new double[]{1, 2, 3, 4}))
+            .isEqualTo(Tensor.matrix(2, 2, 1, 2, 3, 4));
+    }
+
+    @Test
+    void givenLargeShapeInContext_whenFromFunction_thenSameAsSequentialFill() {
+        var shape = new int[]{7, 13, 1001};
+        var length = 7 * 13 * 1001;
+
+        try (var computeContext = new ComputeContext(3)) {
+            assertThat(
+                computeContext.invoke(() ->
+                                          Tensor.from(
+                                              shape,
+                                              index -> index[0] * 13 * 1001 +
+                                                           index[1] * 1001 +
+                                                           index[2]
+                                          )
+                )
+            )
+                .isEqualTo(
+                    Tensor.from(shape, IntStream.range(0, length).asDoubleStream().toArray())
+                );
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class TensorElementWiseTests {
+
+    @Test
+    void givenTensor_whenMap_thenOperatorAppliedToEachElement() {
+        assertThat(Tensor.matrix(2, 2, 1, 2, 3, 4).map(value -> value * value))
+            .isEqualTo(Tensor.matrix(2, 2, 1, 4, 9, 16));
+    }
+
+    @Test
+    void givenTransposedTensor_whenMap_thenOperatorAppliedInViewOrder() {
+        assertThat(Tensor.matrix(2, 3, 1, 2, 3, 4, 5, 6).transposed().map(value -> -value))
+            .isEqualTo(Tensor.matrix(3, 2, -1, -4, -2, -5, -3, -6));
+    }
+
+    @Test
+    void givenTensors_whenZip_thenOperatorAppliedToEachPair() {
+        assertThat(
+            Tensor.matrix(2, 2, 1, 2, 3, 4)
+                .zip(Tensor.matrix(2, 2, 5, 6, 7, 8), (first, second) -> first * 10 + second)
+        )
+            .isEqualTo(Tensor.matrix(2, 2, 15, 26, 37, 48));
+    }
+
+    @Test
+    void givenBroadcastedTensor_whenZip_thenBroadcastedValuesUsed() {
+        assertThat(
+            Tensor.matrix(2, 2, 1, 2, 3, 4)
+                .zip(Tensor.verticalVector(10, 20).broadcasted(2, 2), Math::max)
+        )
+            .isEqualTo(Tensor.matrix(2, 2, 10, 10, 20, 20));
+    }
+
+    @Test
+    void givenTensors_whenTernaryZip_thenOperatorAppliedToEachTriple() {
+        assertThat(
+            Tensor.matrix(2, 2, 1, 2, 3, 4)
+                .zip(
+                    Tensor.matrix(2, 2, 5, 6, 7, 8).transposed(),
+                    Tensor.horizontalVector(1, -1).broadcasted(2, 2),
+                    (first, second, third) -> (first + second) * third
+                )
+        )
+            .isEqualTo(Tensor.matrix(2, 2, 6, -9, 9, -12));
+    }
+
+    @Test
+    void givenDifferentShapes_whenZip_thenIllegalArgumentExceptionThrown() {
+        var tensor = Tensor.matrix(2, 2, 1, 2, 3, 4);
+        var other = Tensor.horizontalVector(1, 2);
+
+        assertThatThrownBy(() -> tensor.zip(other, Double::sum))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tensor.zip(tensor, other, (a, b, c) -> a))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenNonFiniteResult_whenMap_thenIllegalArgumentExceptionThrown() {
+        var tensor = Tensor.horizontalVector(1, 0);
+
+        assertThatThrownBy(() -> tensor.map(value -> 1 / value))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenLargeTensorsInContext_whenZip_thenSameAsSequentialCombination() {
+        var random = new Random(0);
+        var first = Tensor.matrix(300, 500, random.doubles(300 * 500, -1, 1).toArray());
+        var second = Tensor.matrix(500, 300, random.doubles(500 * 300, -1, 1).toArray())
+                         .transposed();
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            assertThat(computeContext.invoke(() -> first.zip(second, (a, b) -> a * b)))
+                .isEqualTo(first.product(second));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+final class TensorFusedBackwardTests {
+
+    private static List<Arguments> backpropagatedTensors() {
+        return List.of(
+            arguments(
+                new Sigmoid(),
+                Tensor.horizontalVector(0.5, 0.25),
+                Tensor.horizontalVector(5 * (0.5 * 0.5), 11 * (0.25 * 0.75))
+            ),
+            arguments(
+                new ReLU(),
+                Tensor.horizontalVector(0, 3),
+                Tensor.horizontalVector(0, 11)
+            ),
+            arguments(
+                new Softmax(),
+                Tensor.horizontalVector(0.5, 0.5),
+                Tensor.horizontalVector(
+                    5 * (0.5 * 0.5) + 11 * (0.5 * -0.5),
+                    5 * (0.5 * -0.5) + 11 * (0.5 * 0.5)
+                )
+            ),
+            arguments(
+                new FakeActivationFunction(),
+                Tensor.horizontalVector(0.5, 0.25),
+                Tensor.horizontalVector(5, 11)
+            )
+        );
+    }
+
+    private static List<ActivationFunction> activationFunctions() {
+        return List.of(new Sigmoid(), new ReLU(), new Softmax(), new FakeActivationFunction());
+    }
+
+    @ParameterizedTest
+    @MethodSource("backpropagatedTensors")
+    void givenDeltas_whenBackpropagated_thenErrorSignalTimesDerivative(
+        ActivationFunction activationFunction,
+        Tensor outputs,
+        Tensor expected
+    ) {
+        assertThat(
+            Tensor.horizontalVector(1, 2)
+                .backpropagated(Tensor.matrix(2, 2, 1, 2, 3, 4), outputs, activationFunction)
+        )
+            .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("activationFunctions")
+    void givenLargeMatrices_whenBackpropagated_thenSameAsSeparateOperations(
+        ActivationFunction activationFunction
+    ) {
+        var random = new Random(0);
+        var deltas = Tensor.matrix(70, 130, random.doubles(70 * 130, -1, 1).toArray());
+        var weights = Tensor.matrix(90, 130, random.doubles(90 * 130, -1, 1).toArray());
+        var outputs = Tensor.matrix(70, 90, random.doubles(70 * 90, -0.5, 1).toArray());
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            assertThat(
+                computeContext.invoke(
+                    () -> deltas.backpropagated(weights, outputs, activationFunction)
+                )
+            )
+                .isEqualTo(
+                    activationFunction.deltas(outputs, deltas.contracted(weights.transposed()))
+                );
+        }
+    }
+
+    @Test
+    void givenMatrices_whenUpdated_thenScaledProductSubtracted() {
+        var weights = Tensor.matrix(2, 2, 1, 2, 3, 4);
+
+        assertThat(
+            weights.updated(
+                Tensor.horizontalVector(1, 2).transposed(),
+                Tensor.horizontalVector(3, 4),
+                0.5
+            )
+        )
+            .isEqualTo(Tensor.matrix(2, 2, 1 - 3 * 0.5, 2 - 4 * 0.5, 3 - 6 * 0.5, 4 - 8 * 0.5));
+        assertThat(weights).isEqualTo(Tensor.matrix(2, 2, 1, 2, 3, 4));
+    }
+
+    @Test
+    void givenMatrices_whenUpdate_thenScaledProductSubtractedInPlace() {
+        var weights = Tensor.matrix(2, 2, 1, 2, 3, 4);
+
+        weights.update(
+            Tensor.horizontalVector(1, 2).transposed(),
+            Tensor.horizontalVector(3, 4),
+            0.5
+        );
+
+        assertThat(weights)
+            .isEqualTo(Tensor.matrix(2, 2, 1 - 3 * 0.5, 2 - 4 * 0.5, 3 - 6 * 0.5, 4 - 8 * 0.5));
+    }
+
+    @Test
+    void givenLargeMatrices_whenUpdate_thenSameAsSeparateOperations() {
+        var random = new Random(0);
+        var outputs = Tensor.matrix(70, 130, random.doubles(70 * 130, -1, 1).toArray());
+        var deltas = Tensor.matrix(70, 90, random.doubles(70 * 90, -1, 1).toArray());
+        var weights = Tensor.matrix(130, 90, random.doubles(130 * 90, -1, 1).toArray());
+        var gradient = outputs.transposed().contracted(deltas);
+        var expected = weights.difference(
+            gradient.product(Tensor.horizontalVector(0.25).broadcasted(gradient.shape()))
+        );
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            assertThat(
+                computeContext.invoke(() -> weights.updated(outputs.transposed(), deltas, 0.25))
+            )
+                .isEqualTo(expected);
+            computeContext.invoke(() -> {
+                weights.update(outputs.transposed(), deltas, 0.25);
+                return weights;
+            });
+        }
+
+        assertThat(weights).isEqualTo(expected);
+    }
+
+    @Test
+    void givenTransposedWeights_whenUpdated_thenSameAsSeparateOperations() {
+        var weights = Tensor.matrix(2, 2, 1, 2, 3, 4).transposed();
+
+        assertThat(weights.updated(Tensor.matrix(2, 1, 1, 2), Tensor.horizontalVector(3, 4), 1))
+            .isEqualTo(Tensor.matrix(2, 2, -2, -1, -4, -4));
+    }
+
+    @Test
+    void givenNonFiniteUpdate_whenUpdate_thenWeightsUnchanged() {
+        var weights = Tensor.matrix(1, 2, 1, 2);
+        var left = Tensor.verticalVector(Double.MAX_VALUE);
+        var right = Tensor.horizontalVector(1, 2);
+
+        assertThatThrownBy(() -> weights.update(left, right, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(weights).isEqualTo(Tensor.matrix(1, 2, 1, 2));
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+final class TensorFusedContractionTests {
+
+    private static List<Arguments> activations() {
+        var arguments = new ArrayList<Arguments>();
+        for (var activationFunction : List.of(
+            new Sigmoid(),
+            new ReLU(),
+            new Softmax(),
+            new FakeActivationFunction()
+        )) {
+            for (var dimensions : List.of(new int[]{3, 5, 7}, new int[]{70, 300, 530})) {
+                arguments.add(arguments(activationFunction, dimensions));
+            }
+        }
+        return arguments;
+    }
+
+    @ParameterizedTest
+    @MethodSource("activations")
+    void givenMatrices_whenFusedContracted_thenSameAsSeparateOperations(
+        ActivationFunction activationFunction,
+        int[] dimensions
+    ) {
+        var random = new Random(0);
+        var left = Tensor.matrix(
+            dimensions[0],
+            dimensions[1],
+            random.doubles(dimensions[0] * dimensions[1], -1, 1).toArray()
+        );
+        var right = Tensor.matrix(
+            dimensions[1],
+            dimensions[2],
+            random.doubles(dimensions[1] * dimensions[2], -1, 1).toArray()
+        );
+        var biases = Tensor.horizontalVector(random.doubles(dimensions[2], -1, 1).toArray());
+        var expected = activationFunction.apply(
+            left.contracted(right).sum(biases.broadcasted(dimensions[0], dimensions[2]))
+        );
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            var fused = computeContext.invoke(
+                () -> left.contracted(right, biases, activationFunction)
+            );
+
+            assertThat(fused.shape()).containsExactly(expected.shape());
+            for (var row = 0; row < dimensions[0]; row++) {
+                for (var column = 0; column < dimensions[2]; column++) {
+                    assertThat(fused.value(row, column))
+                        .isCloseTo(expected.value(row, column), offset(1e-12));
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenTransposedInputs_whenFusedContracted_thenSameAsSeparateOperations() {
+        var left = Tensor.matrix(2, 3, 1, 2, 3, 4, 5, 6).transposed();
+        var right = Tensor.matrix(2, 2, 1, -1, 0.5, 2);
+        var biases = Tensor.horizontalVector(0.25, -3);
+
+        assertThat(left.contracted(right, biases, new ReLU()))
+            .isEqualTo(new ReLU().apply(left.contracted(right).sum(biases.broadcasted(3, 2))));
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+final class TensorReductionTests {
+
+    private final Tensor matrix = Tensor.matrix(2, 3, 1, 5, 3, 4, 2, 6);
+    private final Tensor cube = Tensor.from(new int[]{2, 2, 2}, 1, 2, 3, 4, 5, 6, 7, 8);
+
+    @Test
+    void givenTensor_whenSum_thenAllElementsSummed() {
+        assertThat(cube.sum()).isEqualTo(36);
+    }
+
+    @Test
+    void givenBroadcastedTensor_whenSum_thenRepeatedElementsSummed() {
+        assertThat(Tensor.horizontalVector(1, 2).broadcasted(3, 2).sum()).isEqualTo(9);
+    }
+
+    @Test
+    void givenTransposedTensor_whenSum_thenSameAsOriginal() {
+        assertThat(matrix.transposed().sum()).isEqualTo(matrix.sum());
+    }
+
+    @Test
+    void givenMatrix_whenSumAlongRows_thenColumnSumsWithKeptDimension() {
+        assertThat(matrix.sum(0)).isEqualTo(Tensor.horizontalVector(5, 7, 9));
+    }
+
+    @Test
+    void givenMatrix_whenSumAlongColumns_thenRowSumsWithKeptDimension() {
+        assertThat(matrix.sum(1)).isEqualTo(Tensor.verticalVector(9, 12));
+    }
+
+    @Test
+    void givenThreeDimensionalTensor_whenSumAlongMiddleAxis_thenInnerElementsSummed() {
+        assertThat(cube.sum(1)).isEqualTo(Tensor.from(new int[]{2, 1, 2}, 4, 6, 12, 14));
+    }
+
+    @Test
+    void givenMatrix_whenMean_thenSumDividedByAxisLength() {
+        assertThat(matrix.mean(0)).isEqualTo(Tensor.horizontalVector(2.5, 3.5, 4.5));
+    }
+
+    @Test
+    void givenMatrixAndCount_whenMean_thenSumDividedByCount() {
+        assertThat(matrix.mean(0, 4)).isEqualTo(Tensor.horizontalVector(1.25, 1.75, 2.25));
+    }
+
+    @Test
+    void givenMatrix_whenMaximum_thenLargestAlongAxis() {
+        assertThat(matrix.maximum(1)).isEqualTo(Tensor.verticalVector(5, 6));
+        assertThat(matrix.maximum(0)).isEqualTo(Tensor.horizontalVector(4, 5, 6));
+    }
+
+    @Test
+    void givenMatrix_whenMaximumIndex_thenFirstIndexOfLargestAlongAxis() {
+        assertThat(Tensor.matrix(2, 3, -1, -3, -1, 0, 2, 2).maximumIndex(1))
+            .isEqualTo(Tensor.verticalVector(0, 1));
+        assertThat(matrix.maximumIndex(0)).isEqualTo(Tensor.horizontalVector(1, 0, 1));
+    }
+
+    @Test
+    void givenMatrix_whenRowSums_thenSumOfEveryRow() {
+        assertThat(matrix.rowSums()).containsExactly(9, 12);
+        assertThat(matrix.transposed().rowSums()).containsExactly(5, 7, 9);
+    }
+
+    @Test
+    void givenTransposedMatrix_whenSum_thenSameAsTransposedSum() {
+        assertThat(matrix.transposed().sum(1)).isEqualTo(matrix.sum(0).transposed().copy());
+    }
+
+    @Test
+    void givenLargeMatrixInParallelContext_whenSum_thenSameAsSequentialSum() {
+        var values = new Random(0).doubles(300 * 200).toArray();
+        var tensor = Tensor.matrix(300, 200, values);
+        try (var computeContext = new ComputeContext(4, 1)) {
+            var rows = computeContext.invoke(() -> tensor.sum(1));
+            var columns = computeContext.invoke(() -> tensor.sum(0));
+
+            for (var row = 0; row < 300; row++) {
+                var expected = 0.0;
+                for (var column = 0; column < 200; column++) {
+                    expected += values[row * 200 + column];
+                }
+                assertThat(rows.value(row, 0)).isCloseTo(expected, offset(1e-9));
+            }
+            for (var column = 0; column < 200; column++) {
+                var expected = 0.0;
+                for (var row = 0; row < 300; row++) {
+                    expected += values[row * 200 + column];
+                }
+                assertThat(columns.value(0, column)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void givenInvalidAxis_whenSum_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> matrix.sum(2)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
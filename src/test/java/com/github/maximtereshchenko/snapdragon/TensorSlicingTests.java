@@ -0,0 +1,57 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class TensorSlicingTests {
+
+    @Test
+    void givenMatrix_whenRows_thenSelectedRows() {
+        assertThat(Tensor.matrix(3, 2, 1, 2, 3, 4, 5, 6).rows(1, 3))
+            .isEqualTo(Tensor.matrix(2, 2, 3, 4, 5, 6));
+    }
+
+    @Test
+    void givenBroadcastedMatrix_whenRows_thenSelectedRowsOfMaterializedMatrix() {
+        assertThat(Tensor.horizontalVector(1, 2).broadcasted(3, 2).rows(0, 2))
+            .isEqualTo(Tensor.matrix(2, 2, 1, 2, 1, 2));
+    }
+
+    @Test
+    void givenBorrowedMatrix_whenRowsOfFullRange_thenIndependentOfBuffer() {
+        var buffer = new double[]{1, 2, 3, 4};
+        var rows = Tensor.borrowed(new int[]{2, 2}, buffer).rows(0, 2);
+
+        buffer[0] = 9;
+
+        assertThat(rows).isEqualTo(Tensor.matrix(2, 2, 1, 2, 3, 4));
+    }
+
+    @Test
+    void givenEmptyRange_whenRows_thenIllegalArgumentExceptionThrown() {
+        var tensor = Tensor.matrix(3, 2, 1, 2, 3, 4, 5, 6);
+
+        assertThatThrownBy(() -> tensor.rows(2, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenMatrices_whenConcatenated_thenRowsOfBoth() {
+        assertThat(
+            Tensor.matrix(1, 2, 1, 2)
+                .concatenated(Tensor.matrix(2, 2, 3, 5, 4, 6).transposed())
+        )
+            .isEqualTo(Tensor.matrix(3, 2, 1, 2, 3, 4, 5, 6));
+    }
+
+    @Test
+    void givenDifferentColumns_whenConcatenated_thenIllegalArgumentExceptionThrown() {
+        var tensor = Tensor.matrix(1, 2, 1, 2);
+        var other = Tensor.matrix(1, 3, 1, 2, 3);
+
+        assertThatThrownBy(() -> tensor.concatenated(other))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+final class TensorTransposedContractionTests {
+
+    private static List<Arguments> contractedTensors() {
+        return List.of(
+            arguments(
+                Tensor.matrix(2, 3, 1, 2, 3, 4, 5, 6).transposed(),
+                Tensor.verticalVector(1, 2),
+                Tensor.verticalVector(1 + 4 * 2, 2 + 5 * 2, 3 + 6 * 2)
+            ),
+            arguments(
+                Tensor.matrix(2, 2, 1, 2, 3, 4),
+                Tensor.matrix(2, 2, 5, 6, 7, 8).transposed(),
+                Tensor.matrix(
+                    2, 2,
+                    1 * 5 + 2 * 6, 1 * 7 + 2 * 8,
+                    3 * 5 + 4 * 6, 3 * 7 + 4 * 8
+                )
+            ),
+            arguments(
+                Tensor.matrix(2, 2, 1, 2, 3, 4).transposed(),
+                Tensor.matrix(2, 2, 5, 6, 7, 8).transposed(),
+                Tensor.matrix(
+                    2, 2,
+                    1 * 5 + 3 * 6, 1 * 7 + 3 * 8,
+                    2 * 5 + 4 * 6, 2 * 7 + 4 * 8
+                )
+            ),
+            arguments(
+                Tensor.horizontalVector(1, 2, 3).broadcasted(2, 3).transposed(),
+                Tensor.matrix(2, 2, 1, -1, 0.5, 2),
+                Tensor.matrix(3, 2, 1.5, 1, 3, 2, 4.5, 3)
+            )
+        );
+    }
+
+    private static List<Arguments> transpositions() {
+        return List.of(
+            arguments(false, true),
+            arguments(true, false),
+            arguments(true, true)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("contractedTensors")
+    void givenTransposedViews_whenContracted_thenContractedTensor(
+        Tensor first,
+        Tensor second,
+        Tensor contracted
+    ) {
+        assertThat(first.contracted(second)).isEqualTo(contracted);
+    }
+
+    @Test
+    void givenTransposedView_whenFusedContracted_thenActivatedContractionWithBiases() {
+        assertThat(
+            Tensor.matrix(2, 3, 1, 2, 3, 4, 5, 6)
+                .transposed()
+                .contracted(
+                    Tensor.verticalVector(1, 2),
+                    Tensor.horizontalVector(-10),
+                    new ReLU()
+                )
+        )
+            .isEqualTo(Tensor.verticalVector(0, 2, 5));
+    }
+
+    @ParameterizedTest
+    @MethodSource("transpositions")
+    void givenLargeTransposedViews_whenContracted_thenSameAsContractedCopies(
+        boolean transposedLeft,
+        boolean transposedRight
+    ) {
+        var random = new Random(0);
+        var left = operand(random, 70, 300, transposedLeft);
+        var right = operand(random, 300, 530, transposedRight);
+
+        try (var computeContext = new ComputeContext(3, 1)) {
+            assertThat(computeContext.invoke(() -> left.contracted(right)))
+                .isEqualTo(left.copy().contracted(right.copy()));
+        }
+    }
+
+    private Tensor operand(Random random, int rows, int columns, boolean transposed) {
+        var values = random.doubles(rows * columns, -1, 1).toArray();
+        if (transposed) {
+            return Tensor.matrix(columns, rows, values).transposed();
+        }
+        return Tensor.matrix(rows, columns, values);
+    }
+}
@@ -46,4 +46,27 @@ final class TensorTranspositionTests {
         var matrix = Tensor.horizontalVector(1);
         assertThat(matrix.transposed()).isEqualTo(matrix);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("transposedTensors")
+    void givenBroadcastedTensor_whenTransposed_thenTransposedOfMaterializedTensor(
+        Tensor original
+    ) {
+        var shape = original.shape();
+        var broadcasted = new int[shape.length + 1];
+        broadcasted[0] = 2;
+        System.arraycopy(shape, 0, broadcasted, 1, shape.length);
+        var materialized = Tensor.from(
+            broadcasted,
+            index -> original.broadcasted(broadcasted).value(index)
+        );
+
+        assertThat(original.broadcasted(broadcasted).transposed())
+            .isEqualTo(
+                Tensor.from(
+                    materialized.transposed().shape(),
+                    index -> materialized.transposed().value(index)
+                )
+            );
+    }
+}
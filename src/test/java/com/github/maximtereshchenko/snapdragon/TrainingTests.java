@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
 
 final class TrainingTests {
 
@@ -21,12 +22,14 @@ final class TrainingTests {
                     new Statistics(
                         List.of(
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.1), 1.0),
-                                new NeuralNetworkStatistics(List.of(0.5), 1.0)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.1), 1.0),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.5), 1.0),
+                                0
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.2), 1.0),
-                                new NeuralNetworkStatistics(List.of(0.5), 1.0)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.2), 1.0),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.5), 1.0),
+                                32
                             )
                         )
                     )
@@ -43,16 +46,19 @@ final class TrainingTests {
                     new Statistics(
                         List.of(
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.4), 1),
-                                new NeuralNetworkStatistics(List.of(0.3), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.4), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.3), 1),
+                                0
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.2), 1),
-                                new NeuralNetworkStatistics(List.of(0.1), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.2), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.1), 1),
+                                32
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.1), 1),
-                                new NeuralNetworkStatistics(List.of(0.1), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.1), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.1), 1),
+                                32
                             )
                         )
                     )
@@ -71,20 +77,24 @@ final class TrainingTests {
                     new Statistics(
                         List.of(
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.6), 1),
-                                new NeuralNetworkStatistics(List.of(0.5), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.6), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.5), 1),
+                                0
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.4), 1),
-                                new NeuralNetworkStatistics(List.of(0.3), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.4), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.3), 1),
+                                32
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.2), 1),
-                                new NeuralNetworkStatistics(List.of(0.3), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.2), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.3), 1),
+                                32
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.1), 1),
-                                new NeuralNetworkStatistics(List.of(0.3), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.1), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.3), 1),
+                                32
                             )
                         )
                     )
@@ -101,16 +111,19 @@ final class TrainingTests {
                     new Statistics(
                         List.of(
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.6), 1),
-                                new NeuralNetworkStatistics(List.of(0.5), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.6), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.5), 1),
+                                0
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.4), 1),
-                                new NeuralNetworkStatistics(List.of(0.3), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.4), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.3), 1),
+                                32
                             ),
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.2), 1),
-                                new NeuralNetworkStatistics(List.of(0.1), 1)
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.2), 1),
+                                new NeuralNetworkStatistics(RunningStatistics.of(0.1), 1),
+                                32
                             )
                         )
                     )
@@ -140,8 +153,15 @@ final class TrainingTests {
                     new Statistics(
                         List.of(
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.1), 0.25),
-                                new NeuralNetworkStatistics(List.of(0.1), 0.25)
+                                new NeuralNetworkStatistics(
+                                    RunningStatistics.of(0.1, 0.1, 0.1, 0.1),
+                                    0.25
+                                ),
+                                new NeuralNetworkStatistics(
+                                    RunningStatistics.of(0.1, 0.1, 0.1, 0.1),
+                                    0.25
+                                ),
+                                0
                             )
                         )
                     )
@@ -150,7 +170,45 @@ final class TrainingTests {
     }
 
     @Test
-    void givenBatchedTrainingDataset_whenCompletedTraining_thenTrainingLossesPerBatch() {
+    void givenShortLastBatch_whenCompletedTraining_thenAccuracyPerSample() {
+        assertThat(
+            completedTraining(
+                Map.of(
+                    new double[]{0.8, 0.2}, new double[]{0.0, 1.0},
+                    new double[]{0.7, 0.3}, new double[]{0.0, 1.0},
+                    new double[]{0.6, 0.4}, new double[]{0.0, 1.0},
+                    new double[]{0.4, 0.6}, new double[]{0.0, 1.0}
+                ),
+                3,
+                0,
+                1,
+                0.1, 0.1, 0.1, 0.1
+            )
+        )
+            .isEqualTo(
+                new CompletedTraining(
+                    neuralNetwork,
+                    new Statistics(
+                        List.of(
+                            new EpochStatistics(
+                                new NeuralNetworkStatistics(
+                                    RunningStatistics.of(0.1, 0.1, 0.1, 0.1),
+                                    0.25
+                                ),
+                                new NeuralNetworkStatistics(
+                                    RunningStatistics.of(0.1, 0.1, 0.1, 0.1),
+                                    0.25
+                                ),
+                                0
+                            )
+                        )
+                    )
+                )
+            );
+    }
+
+    @Test
+    void givenBatchedTrainingDataset_whenCompletedTraining_thenLossesPerSample() {
         assertThat(
             completedTraining(
                 Map.of(
@@ -172,8 +230,15 @@ final class TrainingTests {
                     new Statistics(
                         List.of(
                             new EpochStatistics(
-                                new NeuralNetworkStatistics(List.of(0.6, 0.5, 0.4), 1),
-                                new NeuralNetworkStatistics(List.of(0.3, 0.2, 0.1), 1)
+                                new NeuralNetworkStatistics(
+                                    RunningStatistics.of(0.6, 0.6, 0.5, 0.5, 0.4),
+                                    1
+                                ),
+                                new NeuralNetworkStatistics(
+                                    RunningStatistics.of(0.3, 0.3, 0.2, 0.2, 0.1),
+                                    1
+                                ),
+                                0
                             )
                         )
                     )
@@ -181,6 +246,33 @@ final class TrainingTests {
             );
     }
 
+    @Test
+    void givenBatchedTrainingDataset_whenCompletedTraining_thenBatchLossesWeightedBySamples() {
+        var losses = completedTraining(
+            Map.of(
+                new double[]{0.1}, new double[]{0.1},
+                new double[]{0.2}, new double[]{0.2},
+                new double[]{0.3}, new double[]{0.3},
+                new double[]{0.4}, new double[]{0.4},
+                new double[]{0.5}, new double[]{0.5}
+            ),
+            2,
+            0,
+            1,
+            0.6, 0.5, 0.4, 0.3, 0.2, 0.1
+        )
+                         .statistics()
+                         .epochStatistics()
+                         .getFirst()
+                         .training()
+                         .losses();
+
+        assertThat(losses.count()).isEqualTo(5);
+        assertThat(losses.min()).isEqualTo(0.4);
+        assertThat(losses.max()).isEqualTo(0.6);
+        assertThat(losses.mean()).isCloseTo((0.6 * 2 + 0.5 * 2 + 0.4) / 5, offset(1e-12));
+    }
+
     private CompletedTraining completedTraining(
         int patience,
         int epochs,
@@ -206,15 +298,18 @@ final class TrainingTests {
                                                          )
                                  )
                                  .toList();
-        return new Training(
-            new TrainingDataset(() -> labeledSamples, batchSize, new Random(0)),
-            new ValidationDataset(() -> labeledSamples, batchSize),
-            new FakeLossFunction(losses),
-            neuralNetwork,
-            new LearningRate(1),
-            new Patience(patience),
-            epochs
-        )
-                   .completedTraining();
+        try (var computeContext = new ComputeContext(1)) {
+            return new Training(
+                new TrainingDataset(() -> labeledSamples, batchSize, new Random(0)),
+                new ValidationDataset(() -> labeledSamples, batchSize),
+                new FakeLossFunction(losses),
+                neuralNetwork,
+                new LearningRate(1),
+                new Patience(patience),
+                epochs,
+                computeContext
+            )
+                       .completedTraining();
+        }
     }
 }
\ No newline at end of file
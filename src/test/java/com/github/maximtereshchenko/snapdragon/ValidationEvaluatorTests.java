@@ -0,0 +1,75 @@
+package com.github.maximtereshchenko.snapdragon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+final class ValidationEvaluatorTests {
+
+    private final ValidationEvaluator validationEvaluator =
+        new ValidationEvaluator(new CategoricalCrossEntropy());
+    private final List<LabeledSample> labeledSamples = labeledSamples();
+
+    @Test
+    void givenChunks_whenNeuralNetworkStatistics_thenSameAsSingleBatch() {
+        var expected = neuralNetworkStatistics(new ComputeContext(1), Integer.MAX_VALUE);
+
+        var actual = neuralNetworkStatistics(new ComputeContext(4, 1), 3);
+
+        assertThat(actual.averageLoss()).isCloseTo(expected.averageLoss(), offset(1e-12));
+        assertThat(actual.accuracy()).isEqualTo(expected.accuracy());
+    }
+
+    @Test
+    void givenUnevenLastChunk_whenNeuralNetworkStatistics_thenAccuracyWeightedBySamples() {
+        assertThat(neuralNetworkStatistics(new ComputeContext(2, 1), 4).accuracy())
+            .isEqualTo(0.7);
+    }
+
+    @Test
+    void givenEmptyDataset_whenNeuralNetworkStatistics_thenIllegalStateExceptionThrown() {
+        var validationDataset = new ValidationDataset(List::of, 3);
+
+        assertThatThrownBy(
+            () -> validationEvaluator.neuralNetworkStatistics(
+                new FakeNeuralNetwork(),
+                validationDataset
+            )
+        )
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private NeuralNetworkStatistics neuralNetworkStatistics(
+        ComputeContext computeContext,
+        int batchSize
+    ) {
+        try (computeContext) {
+            return computeContext.invoke(
+                () -> validationEvaluator.neuralNetworkStatistics(
+                    new FakeNeuralNetwork(),
+                    new ValidationDataset(() -> labeledSamples, batchSize)
+                )
+            );
+        }
+    }
+
+    private List<LabeledSample> labeledSamples() {
+        var labeledSamples = new ArrayList<LabeledSample>();
+        for (var i = 0; i < 10; i++) {
+            var confidence = 0.55 + i * 0.04;
+            var correct = i < 7;
+            labeledSamples.add(
+                new StaticLabeledSample(
+                    new double[]{confidence, 1 - confidence},
+                    new double[]{correct ? 1 : 0, correct ? 0 : 1}
+                )
+            );
+        }
+        return labeledSamples;
+    }
+}